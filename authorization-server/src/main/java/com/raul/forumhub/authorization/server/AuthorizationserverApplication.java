@@ -1,9 +1,12 @@
 package com.raul.forumhub.authorization.server;
 
+import com.raul.forumhub.compression.CompressionThresholdFilter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import(CompressionThresholdFilter.class)
 public class AuthorizationserverApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,244 @@
+package com.raul.forumhub.compression;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Tomcat only honours {@code server.compression.min-response-size} when the body length is known, and JSON is
+ * written chunked. Bodies are held back up to that threshold: smaller ones leave with a Content-Length and skip
+ * compression, while larger bodies and asynchronous streams (exports, SSE) pass through untouched.
+ */
+@Component
+@ConditionalOnProperty(prefix = "server.compression", name = "enabled", havingValue = "true")
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+
+    private final int threshold;
+
+    public CompressionThresholdFilter(@Value("${server.compression.min-response-size:2KB}") DataSize threshold) {
+        this.threshold = (int) threshold.toBytes();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ThresholdResponse thresholdResponse = new ThresholdResponse(response, this.threshold);
+        filterChain.doFilter(request, thresholdResponse);
+
+        if (request.isAsyncStarted()) {
+            thresholdResponse.passThrough(true);
+        } else {
+            thresholdResponse.finish();
+        }
+    }
+
+    static final class ThresholdResponse extends HttpServletResponseWrapper {
+
+        private final int threshold;
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private ThresholdOutputStream outputStream;
+
+        private PrintWriter writer;
+
+        private boolean passThrough;
+
+        ThresholdResponse(HttpServletResponse response, int threshold) {
+            super(response);
+            this.threshold = threshold;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (this.writer != null) {
+                throw new IllegalStateException("getWriter() has already been called for this response");
+            }
+            return this.stream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (this.writer == null) {
+                if (this.outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called for this response");
+                }
+                this.writer = new PrintWriter(new OutputStreamWriter(this.stream(), this.getCharacterEncoding()));
+            }
+            return this.writer;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            super.setContentLength(len);
+            this.passThroughQuietly();
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            super.setContentLengthLong(len);
+            this.passThroughQuietly();
+        }
+
+        /**
+         * Message converters flush after every body, so flushes only reach the client once the body is streaming.
+         */
+        @Override
+        public void flushBuffer() throws IOException {
+            if (this.writer != null) {
+                this.writer.flush();
+            }
+            synchronized (this.buffer) {
+                if (!this.passThrough) {
+                    return;
+                }
+            }
+            super.flushBuffer();
+        }
+
+        @Override
+        public void resetBuffer() {
+            this.discard();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            this.discard();
+            super.reset();
+        }
+
+        void finish() throws IOException {
+            if (this.writer != null) {
+                this.writer.flush();
+            }
+            synchronized (this.buffer) {
+                if (this.passThrough || this.outputStream == null) {
+                    return;
+                }
+                this.passThrough = true;
+                if (!this.isCommitted()) {
+                    super.setContentLength(this.buffer.size());
+                }
+                this.buffer.writeTo(this.getResponse().getOutputStream());
+                this.buffer.reset();
+            }
+        }
+
+        void passThrough(boolean flush) throws IOException {
+            if (this.writer != null) {
+                this.writer.flush();
+            }
+            boolean written;
+            synchronized (this.buffer) {
+                written = this.buffer.size() > 0;
+                this.passThrough = true;
+                if (written) {
+                    this.buffer.writeTo(this.getResponse().getOutputStream());
+                    this.buffer.reset();
+                }
+            }
+            if (flush && written) {
+                this.getResponse().getOutputStream().flush();
+            }
+        }
+
+        private void passThroughQuietly() {
+            try {
+                this.passThrough(false);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void discard() {
+            synchronized (this.buffer) {
+                if (!this.passThrough) {
+                    this.buffer.reset();
+                }
+            }
+        }
+
+        private ThresholdOutputStream stream() {
+            if (this.outputStream == null) {
+                this.outputStream = new ThresholdOutputStream();
+            }
+            return this.outputStream;
+        }
+
+        private final class ThresholdOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                this.write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                ThresholdResponse response = ThresholdResponse.this;
+                synchronized (response.buffer) {
+                    if (!response.passThrough && response.buffer.size() + len <= response.threshold) {
+                        response.buffer.write(b, off, len);
+                        return;
+                    }
+                }
+                response.passThrough(false);
+                response.getResponse().getOutputStream().write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                ThresholdResponse response = ThresholdResponse.this;
+                synchronized (response.buffer) {
+                    if (!response.passThrough) {
+                        return;
+                    }
+                }
+                response.getResponse().getOutputStream().flush();
+            }
+
+            @Override
+            public boolean isReady() {
+                synchronized (ThresholdResponse.this.buffer) {
+                    if (!ThresholdResponse.this.passThrough) {
+                        return true;
+                    }
+                }
+                return this.delegateReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                try {
+                    ThresholdResponse.this.passThrough(false);
+                    ThresholdResponse.this.getResponse().getOutputStream().setWriteListener(writeListener);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            private boolean delegateReady() {
+                try {
+                    return ThresholdResponse.this.getResponse().getOutputStream().isReady();
+                } catch (IOException e) {
+                    return false;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.raul.forumhub.datasource;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReadYourWritesTracker {
+
+    private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(Long user_id) {
+        if (user_id != null && this.windowNanos > 0) {
+            this.lastWrites.put(user_id, System.nanoTime());
+        }
+    }
+
+    public boolean isSticky(Long user_id) {
+        if (user_id == null) {
+            return false;
+        }
+        Long writtenAt = this.lastWrites.get(user_id);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < this.windowNanos) {
+            return true;
+        }
+        this.lastWrites.remove(user_id, writtenAt);
+        return false;
+    }
+
+    public void evictExpired() {
+        long now = System.nanoTime();
+        this.lastWrites.values().removeIf(writtenAt -> now - writtenAt >= this.windowNanos);
+    }
+
+    public static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken token) {
+            String user_id = token.getToken().getClaimAsString("user_id");
+            return user_id == null ? null : Long.parseLong(user_id);
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.raul.forumhub.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public class ReplicaHealthChecker implements DisposableBean {
+
+    private static final String REPLICATION_LAG = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() " +
+            "THEN 0 ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final Map<String, HikariDataSource> replicas;
+
+    private final Duration maxReplicationLag;
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaHealthChecker(Map<String, HikariDataSource> replicas, Duration maxReplicationLag,
+                                ReadYourWritesTracker readYourWritesTracker) {
+        this.replicas = replicas;
+        this.maxReplicationLag = maxReplicationLag;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    public Map<String, HikariDataSource> getReplicas() {
+        return this.replicas;
+    }
+
+    public List<String> healthyReplicas() {
+        return this.healthyReplicas;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${forumhub.datasource.routing.health-check-delay:10000}")
+    public void checkReplicas() {
+        List<String> healthy = new ArrayList<>();
+        this.replicas.forEach((key, dataSource) -> {
+            if (this.isHealthy(key, dataSource)) {
+                healthy.add(key);
+            }
+        });
+
+        if (!healthy.equals(this.healthyReplicas)) {
+            log.info("Healthy replicas ==> {}", healthy);
+        }
+        this.healthyReplicas = List.copyOf(healthy);
+        this.readYourWritesTracker.evictExpired();
+    }
+
+    private boolean isHealthy(String key, HikariDataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICATION_LAG)) {
+
+            double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+            if (lagSeconds * 1000 > this.maxReplicationLag.toMillis()) {
+                log.warn("Replica {} lagging ==> {}s", key, lagSeconds);
+                return false;
+            }
+            return true;
+        } catch (SQLException e) {
+            log.warn("Replica {} unavailable ==> {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        this.replicas.values().forEach(HikariDataSource::close);
+    }
+
+}
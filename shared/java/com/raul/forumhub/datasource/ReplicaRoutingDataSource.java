@@ -0,0 +1,46 @@
+package com.raul.forumhub.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaHealthChecker replicaHealthChecker;
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaHealthChecker replicaHealthChecker, ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaHealthChecker = replicaHealthChecker;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long user_id = ReadYourWritesTracker.currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                this.readYourWritesTracker.recordWrite(user_id);
+            }
+            return PRIMARY;
+        }
+
+        if (this.readYourWritesTracker.isSticky(user_id)) {
+            return PRIMARY;
+        }
+
+        List<String> healthy = this.replicaHealthChecker.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(this.next.getAndIncrement(), healthy.size()));
+    }
+
+}
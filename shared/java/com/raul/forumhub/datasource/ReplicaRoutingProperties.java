@@ -0,0 +1,35 @@
+package com.raul.forumhub.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties("forumhub.datasource.routing")
+@Getter
+@Setter
+public class ReplicaRoutingProperties {
+
+    private boolean enabled;
+    private String poolPrefix = "forumhub-";
+    private Duration maxReplicationLag = Duration.ofSeconds(5);
+    private Duration stickiness = Duration.ofSeconds(5);
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.raul.forumhub.datasource.config;
+
+import com.raul.forumhub.datasource.ReadYourWritesTracker;
+import com.raul.forumhub.datasource.ReplicaHealthChecker;
+import com.raul.forumhub.datasource.ReplicaRoutingDataSource;
+import com.raul.forumhub.datasource.ReplicaRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "forumhub.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaRoutingProperties routingProperties) {
+        return new ReadYourWritesTracker(routingProperties.getStickiness());
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaRoutingProperties routingProperties,
+                                                     DataSourceProperties dataSourceProperties,
+                                                     ReadYourWritesTracker readYourWritesTracker,
+                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < routingProperties.getReplicas().size(); i++) {
+            ReplicaRoutingProperties.Replica replica = routingProperties.getReplicas().get(i);
+
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(routingProperties.getPoolPrefix() + "replica-" + i);
+            dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setRegisterMbeans(true);
+            meterRegistry.ifAvailable(registry ->
+                    dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+
+            replicas.put("replica-" + i, dataSource);
+        }
+        return new ReplicaHealthChecker(replicas, routingProperties.getMaxReplicationLag(), readYourWritesTracker);
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(ReplicaRoutingProperties routingProperties,
+                                              DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(routingProperties.getPoolPrefix() + ReplicaRoutingDataSource.PRIMARY);
+        dataSource.setRegisterMbeans(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaHealthChecker replicaHealthChecker,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        Map<Object, Object> targets = new HashMap<>(replicaHealthChecker.getReplicas());
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaHealthChecker, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+}
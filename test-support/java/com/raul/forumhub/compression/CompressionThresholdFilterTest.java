@@ -0,0 +1,74 @@
+package com.raul.forumhub.compression;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressionThresholdFilterTest {
+
+    final CompressionThresholdFilter filter = new CompressionThresholdFilter(DataSize.ofBytes(16));
+
+
+    @SneakyThrows
+    @DisplayName("Should send bodies below the threshold with a Content-Length even if the converter flushes")
+    @Test
+    void shouldSetContentLengthBelowThreshold() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            res.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+            res.getOutputStream().flush();
+            res.flushBuffer();
+        });
+
+        assertAll(
+                () -> assertEquals("8", response.getHeader("Content-Length")),
+                () -> assertEquals("{\"id\":1}", response.getContentAsString())
+        );
+    }
+
+    @SneakyThrows
+    @DisplayName("Should stream bodies above the threshold without a Content-Length")
+    @Test
+    void shouldStreamAboveThreshold() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        String body = "{\"title\":\"Dúvida sobre o Feign Client\"}";
+
+        this.filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> res.getWriter().write(body));
+
+        assertAll(
+                () -> assertNull(response.getHeader("Content-Length")),
+                () -> assertEquals(body, response.getContentAsString(StandardCharsets.UTF_8))
+        );
+    }
+
+    @SneakyThrows
+    @DisplayName("Should release buffered events of asynchronous responses as soon as the handler returns")
+    @Test
+    void shouldPassThroughAsyncResponses() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(request, response, (req, res) -> {
+            req.startAsync();
+            res.getOutputStream().write(":connected\n\n".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+        });
+
+        assertAll(
+                () -> assertNull(response.getHeader("Content-Length")),
+                () -> assertEquals(":connected\n\n", response.getContentAsString()),
+                () -> assertTrue(response.isCommitted())
+        );
+    }
+
+}
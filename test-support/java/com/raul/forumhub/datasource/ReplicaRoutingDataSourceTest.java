@@ -0,0 +1,83 @@
+package com.raul.forumhub.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    ReplicaHealthChecker replicaHealthChecker;
+
+    ReadYourWritesTracker readYourWritesTracker;
+
+    ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setup() {
+        this.readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        this.routingDataSource = new ReplicaRoutingDataSource(this.replicaHealthChecker, this.readYourWritesTracker);
+
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("user_id", "1")
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+
+    @AfterEach
+    void cleanup() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToHealthyReplicasInTurn() {
+        BDDMockito.given(this.replicaHealthChecker.healthyReplicas())
+                .willReturn(List.of("replica-0", "replica-1"));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-0", this.routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", this.routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-0", this.routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToPrimaryIfNoReplicaIsHealthy() {
+        BDDMockito.given(this.replicaHealthChecker.healthyReplicas())
+                .willReturn(List.of());
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, this.routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void shouldKeepReadsOfUserOnPrimaryAfterWrite() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, this.routingDataSource.determineCurrentLookupKey());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, this.routingDataSource.determineCurrentLookupKey());
+        BDDMockito.verifyNoInteractions(this.replicaHealthChecker);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.raul.forumhub.query;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of JDBC statements allowed for each HTTP call performed by the test.
+ * The endpoint is written as {@code "GET /api-forum/v1/forumhub/topics/listAll"} (Ant pattern,
+ * method optional); an empty value applies the budget to every call.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(QueryBudgets.class)
+public @interface QueryBudget {
+
+    String value() default "";
+
+    int max();
+
+    int maxRepeatedSelects() default 3;
+
+}
@@ -0,0 +1,68 @@
+package com.raul.forumhub.query;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fails a test when an HTTP call it performs exceeds the {@link QueryBudget} declared for it, or
+ * runs the same SELECT more often than allowed (the N+1 signature).
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryRecorder.reset();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Set<QueryBudget> budgets = AnnotatedElementUtils.findMergedRepeatableAnnotations(
+                context.getRequiredTestMethod(), QueryBudget.class, QueryBudgets.class);
+        List<QueryRecorder.RecordedRequest> requests = QueryRecorder.requests();
+
+        for (QueryBudget budget : budgets) {
+            List<QueryRecorder.RecordedRequest> matching = requests.stream()
+                    .filter(request -> matches(budget.value(), request))
+                    .toList();
+
+            if (matching.isEmpty()) {
+                throw new AssertionFailedError("No HTTP call matched query budget '" + budget.value() + "'");
+            }
+
+            for (QueryRecorder.RecordedRequest request : matching) {
+                int executed = request.statements().size();
+                if (executed > budget.max()) {
+                    throw new AssertionFailedError(request + " executed " + executed + " statements, budget is "
+                            + budget.max() + ":\n" + String.join("\n", request.statements()));
+                }
+
+                Map<String, Integer> repeated = request.repeatedSelects(budget.maxRepeatedSelects());
+                if (!repeated.isEmpty()) {
+                    throw new AssertionFailedError(request + " repeated the same SELECT (N+1): " + repeated);
+                }
+            }
+        }
+    }
+
+    private static boolean matches(String endpoint, QueryRecorder.RecordedRequest request) {
+        if (endpoint.isBlank()) {
+            return true;
+        }
+        String[] parts = endpoint.trim().split("\\s+", 2);
+        if (parts.length == 2) {
+            return parts[0].equalsIgnoreCase(request.method()) && PATH_MATCHER.match(parts[1], request.uri());
+        }
+        return PATH_MATCHER.match(parts[0], request.uri());
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.raul.forumhub.query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public final class QueryRecorder {
+
+    private static final ThreadLocal<RecordedRequest> CURRENT = new ThreadLocal<>();
+
+    private static final List<RecordedRequest> REQUESTS = new CopyOnWriteArrayList<>();
+
+    private QueryRecorder() {
+    }
+
+    public static void reset() {
+        REQUESTS.clear();
+    }
+
+    public static List<RecordedRequest> requests() {
+        return List.copyOf(REQUESTS);
+    }
+
+    static void startRequest(String method, String uri) {
+        CURRENT.set(new RecordedRequest(method, uri, new ArrayList<>()));
+    }
+
+    static void endRequest() {
+        RecordedRequest request = CURRENT.get();
+        CURRENT.remove();
+        if (request != null) {
+            REQUESTS.add(request);
+        }
+    }
+
+    static void record(String sql) {
+        RecordedRequest request = CURRENT.get();
+        if (request != null) {
+            request.statements().add(sql);
+        }
+    }
+
+    public record RecordedRequest(String method, String uri, List<String> statements) {
+
+        public Map<String, Integer> repeatedSelects(int maxRepeatedSelects) {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            this.statements.stream()
+                    .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                    .forEach(sql -> counts.merge(sql, 1, Integer::sum));
+            counts.values().removeIf(count -> count <= maxRepeatedSelects);
+            return counts;
+        }
+
+        @Override
+        public String toString() {
+            return this.method + " " + this.uri;
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.raul.forumhub.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Imported by the integration tests that declare a {@link QueryBudget}: wraps the DataSource so that
+ * statements issued while an HTTP call is being served are recorded for {@link QueryBudgetExtension}.
+ */
+@Configuration
+public class QueryRecordingConfig {
+
+    @Bean
+    public static BeanPostProcessor queryRecordingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new RecordingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public OncePerRequestFilter queryRecordingFilter() {
+        return new RecordingFilter();
+    }
+
+    private static class RecordingFilter extends OncePerRequestFilter implements Ordered {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            QueryRecorder.startRequest(request.getMethod(), request.getRequestURI());
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                QueryRecorder.endRequest();
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    private static class RecordingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (execInfo.isBatch()) {
+                QueryRecorder.record(queryInfoList.get(0).getQuery());
+                return;
+            }
+            queryInfoList.forEach(queryInfo -> QueryRecorder.record(queryInfo.getQuery()));
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.raul.forumhub.topic.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.raul.forumhub.topic.domain.*;
+import com.raul.forumhub.topic.dto.response.GetTopicDTO;
+import com.raul.forumhub.topic.util.TestsHelper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the flat {@link GetTopicDTO} with the former entity-shaped response, with and without Blackbird.
+ * Bytes per response are reported next to the score as the secondary {@code bytes} result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetTopicDTOSerializationBenchmark {
+
+    @Param({"0", "10", "100"})
+    int answers;
+
+    @Param({"false", "true"})
+    boolean blackbird;
+
+    ObjectMapper objectMapper;
+
+    GetTopicDTO flat;
+
+    EntityShapedTopic entityShaped;
+
+    @Setup
+    public void setup() throws Exception {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        if (this.blackbird) {
+            this.objectMapper.registerModule(new BlackbirdModule());
+        }
+
+        Topic topic = TestsHelper.TopicHelper.topicList().get(0);
+        Set<Answer> answerSet = new HashSet<>();
+        for (long i = 0; i < this.answers; i++) {
+            Answer answer = new Answer("Resposta de número " + i + " para o tópico informado");
+            answer.setId(i + 1);
+            answer.setTopic(topic);
+            answer.setAuthor(TestsHelper.AuthorHelper.authorList().get((int) (i % 3)));
+            answerSet.add(answer);
+        }
+        topic.setAnswers(answerSet);
+
+        this.flat = new GetTopicDTO(topic);
+        this.entityShaped = new EntityShapedTopic(topic.getId(), topic.getTitle(), topic.getQuestion(),
+                topic.getCreatedAt(), topic.getStatus(), topic.getAuthor(), topic.getCourse(), topic.getAnswers());
+    }
+
+    @Benchmark
+    public byte[] flat(ResponseSize size) throws Exception {
+        return size.record(this.objectMapper.writeValueAsBytes(this.flat));
+    }
+
+    @Benchmark
+    public byte[] entityShaped(ResponseSize size) throws Exception {
+        return size.record(this.objectMapper.writeValueAsBytes(this.entityShaped));
+    }
+
+    /**
+     * Holds the size of the last serialized response; EVENTS counters are reported as-is, not per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ResponseSize {
+
+        public long bytes;
+
+        byte[] record(byte[] response) {
+            this.bytes = response.length;
+            return response;
+        }
+    }
+
+    public record EntityShapedTopic(Long id, String title, String question, LocalDateTime createdAt, Status status,
+                                    Author author, Course course, Set<Answer> answer) {
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.raul.forumhub.topic.benchmark;
+
+import com.raul.forumhub.topic.security.TopicSecurityConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationConverterBenchmark {
+
+    JwtAuthenticationConverter converter;
+
+    Jwt jwt;
+
+    @Setup
+    public void setup() {
+        this.converter = new TopicSecurityConfig().jwtAuthenticationConverter();
+        this.jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("jose@email.com")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(900))
+                .claim("user_id", "1")
+                .claim("authority", "ROLE_ADM")
+                .claim("scope", "topic:delete topic:edit course:create course:delete course:edit answer:delete answer:edit")
+                .build();
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken convert() {
+        return this.converter.convert(this.jwt);
+    }
+
+}
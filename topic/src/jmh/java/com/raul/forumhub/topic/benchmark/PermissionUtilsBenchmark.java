@@ -0,0 +1,51 @@
+package com.raul.forumhub.topic.benchmark;
+
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.util.PermissionUtils;
+import com.raul.forumhub.topic.util.TestsHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PermissionUtilsBenchmark {
+
+    Author basicUser;
+
+    Author moderator;
+
+    @Setup
+    public void setup() {
+        List<Author> authors = TestsHelper.AuthorHelper.authorList();
+        this.basicUser = authors.get(0);
+        this.moderator = authors.get(1);
+    }
+
+    @Benchmark
+    public void owner() {
+        PermissionUtils.privilegeValidator(1L, this.basicUser);
+    }
+
+    @Benchmark
+    public void moderatorOfOtherAuthor() {
+        PermissionUtils.privilegeValidator(1L, this.moderator);
+    }
+
+    @Benchmark
+    public Object deniedForOtherAuthor() {
+        try {
+            PermissionUtils.privilegeValidator(2L, this.basicUser);
+            return null;
+        } catch (ValidationException ex) {
+            return ex;
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.raul.forumhub.topic.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class EndpointStats {
+
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+
+    private final LongAdder errors = new LongAdder();
+
+    void record(long elapsedNanos, boolean success) {
+        this.latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), this.latencies.getHighestTrackableValue()));
+        if (!success) {
+            this.errors.increment();
+        }
+    }
+
+    long requests() {
+        return this.latencies.getTotalCount();
+    }
+
+    long errors() {
+        return this.errors.sum();
+    }
+
+    Map<String, Object> summary(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000d;
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", this.requests());
+        summary.put("errors", this.errors());
+        summary.put("throughput_rps", round(this.requests() / seconds));
+        summary.put("p50_ms", millis(this.latencies.getValueAtPercentile(50)));
+        summary.put("p99_ms", millis(this.latencies.getValueAtPercentile(99)));
+        summary.put("p999_ms", millis(this.latencies.getValueAtPercentile(99.9)));
+        summary.put("max_ms", millis(this.latencies.getMaxValue()));
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000d);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100d;
+    }
+
+}
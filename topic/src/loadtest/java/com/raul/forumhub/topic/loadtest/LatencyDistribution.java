@@ -0,0 +1,45 @@
+package com.raul.forumhub.topic.loadtest;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Log-normal latency described by its median and p99, which is how upstream latency is usually reported.
+ */
+final class LatencyDistribution {
+
+    private static final double Z_99 = 2.3263;
+
+    private final long medianMillis;
+
+    private final double mu;
+
+    private final double sigma;
+
+    LatencyDistribution(long medianMillis, long p99Millis) {
+        Assert.isTrue(medianMillis >= 0, "A mediana da latência não pode ser negativa");
+        Assert.isTrue(p99Millis >= medianMillis, "O p99 da latência não pode ser menor que a mediana");
+
+        this.medianMillis = medianMillis;
+        this.mu = Math.log(Math.max(medianMillis, 1));
+        this.sigma = p99Millis == medianMillis ? 0 : (Math.log(p99Millis) - this.mu) / Z_99;
+    }
+
+    static LatencyDistribution fromSystemProperties(String prefix) {
+        return new LatencyDistribution(Long.getLong(prefix + ".median-ms", 15L), Long.getLong(prefix + ".p99-ms", 80L));
+    }
+
+    long sampleMillis() {
+        if (this.medianMillis == 0) {
+            return 0;
+        }
+        return Math.round(Math.exp(this.mu + this.sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    @Override
+    public String toString() {
+        return "lognormal(p50=" + this.medianMillis + "ms, p99=" + Math.round(Math.exp(this.mu + this.sigma * Z_99)) + "ms)";
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.raul.forumhub.topic.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.util.TestsHelper;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Stand-in for the user service summary endpoint, answering after a delay drawn from the configured distribution.
+ */
+final class StubUserService extends Dispatcher {
+
+    private static final String SUMMARY_PATH = "/api-forum/v1/forumhub/users/summary-info";
+
+    private final LatencyDistribution latency;
+
+    private final Map<String, String> authors;
+
+    StubUserService(LatencyDistribution latency) {
+        this.latency = latency;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        this.authors = TestsHelper.AuthorHelper.authorList().stream().collect(Collectors.toMap(
+                author -> author.getId().toString(), author -> write(objectMapper, author), (a, b) -> a));
+    }
+
+    @NotNull
+    @Override
+    public MockResponse dispatch(@NotNull RecordedRequest request) {
+        if (request.getRequestUrl() == null || !SUMMARY_PATH.equals(request.getRequestUrl().encodedPath())) {
+            return new MockResponse().setResponseCode(404);
+        }
+
+        String author = this.authors.get(request.getRequestUrl().queryParameter("user_id"));
+        if (author == null) {
+            return new MockResponse().setResponseCode(404);
+        }
+
+        return new MockResponse()
+                .setHeadersDelay(this.latency.sampleMillis(), TimeUnit.MILLISECONDS)
+                .addHeader("Content-Type", "application/json")
+                .setBody(author)
+                .setResponseCode(200);
+    }
+
+    private static String write(ObjectMapper objectMapper, Author author) {
+        try {
+            return objectMapper.writeValueAsString(author);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,288 @@
+package com.raul.forumhub.topic.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.client.MockAuthorizationServer;
+import com.raul.forumhub.topic.domain.Course;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.request.AnswerTopicDTO;
+import com.raul.forumhub.topic.dto.request.TopicCreateDTO;
+import com.raul.forumhub.topic.repository.*;
+import com.raul.forumhub.topic.util.TestsHelper;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mixed read/write load against the topic service, with the authorization server and the user service stubbed.
+ * Tunable through system properties: {@code loadtest.duration}, {@code loadtest.warmup} (seconds),
+ * {@code loadtest.concurrency}, {@code loadtest.user.latency.median-ms}, {@code loadtest.user.latency.p99-ms}
+ * and {@code loadtest.max-error-rate}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(value = "test")
+@Tag("loadtest")
+@Slf4j
+class TopicLoadTest {
+
+    private static final String BASE_PATH = "/api-forum/v1/forumhub/topics";
+
+    private static final Path REPORT = Path.of("target", "loadtest-report.json");
+
+    static MockWebServer authorizationServer;
+
+    static MockWebServer userService;
+
+    static LatencyDistribution userLatency;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    AuthorRepository authorRepository;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    TopicRepository topicRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+
+    @SneakyThrows
+    @BeforeAll
+    static void stubsSetup() {
+        authorizationServer = new MockWebServer();
+        authorizationServer.setDispatcher(MockAuthorizationServer.dispatcher);
+        authorizationServer.start(8082);
+
+        userLatency = LatencyDistribution.fromSystemProperties("loadtest.user.latency");
+        userService = new MockWebServer();
+        userService.setDispatcher(new StubUserService(userLatency));
+        userService.start(8081);
+    }
+
+    @SneakyThrows
+    @AfterAll
+    static void stubsTeardown() {
+        userService.shutdown();
+        authorizationServer.shutdown();
+    }
+
+
+    @SneakyThrows
+    @Test
+    void shouldSustainMixedReadWriteLoad() {
+        this.profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+        this.authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
+        this.courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+        this.topicRepository.saveAll(TestsHelper.TopicHelper.topicList());
+        this.answerRepository.saveAll(TestsHelper.AnswerHelper.answerList());
+
+        final Context context = new Context(
+                this.topicRepository.findAll().stream().map(Topic::getId).toList(),
+                this.courseRepository.findAll().stream().map(Course::getId).toList(),
+                MockAuthorizationServer.signUserJwt(1L, "ROLE_BASIC", "topic:edit answer:edit"));
+
+        final int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+        final ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        final ExecutorService clientExecutor = Executors.newFixedThreadPool(concurrency);
+        final HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientExecutor)
+                .build();
+
+        try {
+            this.drive(httpClient, workers, concurrency, context, Long.getLong("loadtest.warmup", 10L), new EnumMap<>(Scenario.class));
+
+            final Map<Scenario, EndpointStats> stats = new EnumMap<>(Scenario.class);
+            final long elapsedNanos = this.drive(httpClient, workers, concurrency, context,
+                    Long.getLong("loadtest.duration", 60L), stats);
+
+            this.report(stats, elapsedNanos, concurrency);
+
+            final double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+            assertAll(stats.entrySet().stream().map(entry -> (Executable) () -> assertTrue(
+                    entry.getValue().errors() <= entry.getValue().requests() * maxErrorRate,
+                    entry.getKey() + " excedeu a taxa de erro tolerada")));
+        } finally {
+            workers.shutdownNow();
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private long drive(HttpClient httpClient, ExecutorService workers, int concurrency, Context context,
+                       long seconds, Map<Scenario, EndpointStats> stats) throws InterruptedException {
+        Arrays.stream(Scenario.values()).forEach(scenario -> stats.put(scenario, new EndpointStats()));
+
+        final long start = System.nanoTime();
+        final long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+
+        List<Future<?>> running = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            running.add(workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    Scenario scenario = Scenario.pick();
+                    long begin = System.nanoTime();
+                    boolean success;
+                    try {
+                        int status = httpClient.send(scenario.request(this, context), HttpResponse.BodyHandlers.discarding())
+                                .statusCode();
+                        success = status >= 200 && status < 300;
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception ex) {
+                        success = false;
+                    }
+                    stats.get(scenario).record(System.nanoTime() - begin, success);
+                }
+            }));
+        }
+
+        for (Future<?> worker : running) {
+            try {
+                worker.get();
+            } catch (ExecutionException ex) {
+                log.warn("Load test ==> Worker interrompido", ex.getCause());
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void report(Map<Scenario, EndpointStats> stats, long elapsedNanos, int concurrency) throws Exception {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((scenario, endpointStats) -> endpoints.put(scenario.endpoint, endpointStats.summary(elapsedNanos)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("duration_s", TimeUnit.NANOSECONDS.toSeconds(elapsedNanos));
+        report.put("concurrency", concurrency);
+        report.put("user_service_latency", userLatency.toString());
+        report.put("endpoints", endpoints);
+
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, this.objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+
+        StringBuilder table = new StringBuilder(String.format("%n%-40s %9s %7s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms"));
+        endpoints.forEach((endpoint, summary) -> {
+            Map<?, ?> values = (Map<?, ?>) summary;
+            table.append(String.format("%-40s %9s %7s %9s %9s %9s %9s%n", endpoint, values.get("requests"),
+                    values.get("errors"), values.get("throughput_rps"), values.get("p50_ms"), values.get("p99_ms"),
+                    values.get("p999_ms")));
+        });
+        log.info("Load test ==> Resultado ({}){}", REPORT.toAbsolutePath(), table);
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://127.0.0.1:" + this.port + BASE_PATH + pathAndQuery);
+    }
+
+    private record Context(List<Long> topicIds, List<Long> courseIds, String accessToken) {
+
+        Long anyTopic() {
+            return this.topicIds.get(ThreadLocalRandom.current().nextInt(this.topicIds.size()));
+        }
+
+        Long anyCourse() {
+            return this.courseIds.get(ThreadLocalRandom.current().nextInt(this.courseIds.size()));
+        }
+    }
+
+    private enum Scenario {
+        LIST("GET /topics/listAll", 40) {
+            @Override
+            HttpRequest request(TopicLoadTest test, Context context) {
+                return HttpRequest.newBuilder(test.uri("/listAll?page=" + ThreadLocalRandom.current().nextInt(3) + "&size=10"))
+                        .GET().build();
+            }
+        },
+        GET("GET /topics", 30) {
+            @Override
+            HttpRequest request(TopicLoadTest test, Context context) {
+                return HttpRequest.newBuilder(test.uri("?topic_id=" + context.anyTopic())).GET().build();
+            }
+        },
+        CREATE_TOPIC("POST /topics/create", 15) {
+            @Override
+            HttpRequest request(TopicLoadTest test, Context context) throws Exception {
+                TopicCreateDTO topic = new TopicCreateDTO("Dúvida gerada pelo teste de carga",
+                        "Qual o comportamento do serviço sob carga mista?", context.anyCourse());
+                return json(test.uri("/create"), context, test.objectMapper.writeValueAsString(topic));
+            }
+        },
+        ANSWER("POST /topics/{topic_id}/answer", 15) {
+            @Override
+            HttpRequest request(TopicLoadTest test, Context context) throws Exception {
+                AnswerTopicDTO answer = new AnswerTopicDTO("Resposta gerada pelo teste de carga");
+                return json(test.uri("/" + context.anyTopic() + "/answer"), context,
+                        test.objectMapper.writeValueAsString(answer));
+            }
+        };
+
+        private static final int TOTAL_WEIGHT = Arrays.stream(values()).mapToInt(scenario -> scenario.weight).sum();
+
+        final String endpoint;
+
+        final int weight;
+
+        Scenario(String endpoint, int weight) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+        }
+
+        abstract HttpRequest request(TopicLoadTest test, Context context) throws Exception;
+
+        static Scenario pick() {
+            int roll = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+            for (Scenario scenario : values()) {
+                roll -= scenario.weight;
+                if (roll < 0) {
+                    return scenario;
+                }
+            }
+            return LIST;
+        }
+
+        private static HttpRequest json(URI uri, Context context, String body) {
+            return HttpRequest.newBuilder(uri)
+                    .header("Authorization", "Bearer " + context.accessToken())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    }
+
+}
@@ -2,8 +2,11 @@ package com.raul.forumhub.topic.client;
 
 import com.raul.forumhub.topic.domain.Author;
 import com.raul.forumhub.topic.exception.RestClientException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -24,13 +27,18 @@ public class UserClientRequest {
 
     private final WebClient webClient;
     private final UserClientProperties userClientProperties;
+    private final MeterRegistry meterRegistry;
 
-    public UserClientRequest(WebClient webClient, UserClientProperties userClientProperties) {
+    public UserClientRequest(WebClient webClient, UserClientProperties userClientProperties,
+                             MeterRegistry meterRegistry) {
         this.webClient = webClient;
         this.userClientProperties = userClientProperties;
+        this.meterRegistry = meterRegistry;
     }
 
     public @Valid Author getUserById(Long id) {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        String outcome = "UNKNOWN";
         try {
             Mono<ResponseEntity<Author>> response = this.webClient.get()
                     .uri(uriBuilder -> uriBuilder
@@ -53,13 +61,29 @@ public class UserClientRequest {
                             Mono.error(() -> new RestClientException(HttpStatus.SERVICE_UNAVAILABLE,
                                     "Erro inesperado durante a comunicação com o serviço de usuário")));
 
-            return Objects.requireNonNull(response.block(),
+            Author author = Objects.requireNonNull(response.block(),
                     "Erro inesperado durante a comunicação com o serviço de usuário").getBody();
+            outcome = "SUCCESS";
+            return author;
 
         } catch (RestClientException ex) {
+            outcome = outcomeOf(ex.getHttpStatusCode());
             throw new RestClientException(ex.getHttpStatusCode(), ex.getMessage());
+        } finally {
+            sample.stop(Timer.builder("forumhub.user.client.requests")
+                    .description("Latência das consultas ao serviço de usuário")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(this.meterRegistry));
         }
 
     }
 
+    private static String outcomeOf(HttpStatusCode statusCode) {
+        if (statusCode.isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE)) {
+            return "UNAVAILABLE";
+        }
+        return statusCode.is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+
 }
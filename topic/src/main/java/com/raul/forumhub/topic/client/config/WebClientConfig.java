@@ -1,24 +1,47 @@
 package com.raul.forumhub.topic.client.config;
 
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.endpoint.DefaultClientCredentialsTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2ClientCredentialsGrantRequest;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
 import org.springframework.security.oauth2.client.web.reactive.function.client.ServletOAuth2AuthorizedClientExchangeFilterFunction;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public WebClient webClient(OAuth2AuthorizedClientManager oAuth2AuthorizedClientManager) {
+    public WebClient webClient(WebClient.Builder webClientBuilder,
+                               OAuth2AuthorizedClientManager oAuth2AuthorizedClientManager) {
 
         ServletOAuth2AuthorizedClientExchangeFilterFunction oauth2Client =
                 new ServletOAuth2AuthorizedClientExchangeFilterFunction(oAuth2AuthorizedClientManager);
         oauth2Client.setDefaultClientRegistrationId("forumhub-user");
 
-        return WebClient.builder()
+        return webClientBuilder
                 .apply(oauth2Client.oauth2Configuration())
                 .build();
     }
 
+    /**
+     * The client-credentials token fetch runs on its own RestTemplate; building it from the
+     * auto-configured RestTemplateBuilder makes that hop observed and propagates the trace context.
+     */
+    @Bean
+    public OAuth2AccessTokenResponseClient<OAuth2ClientCredentialsGrantRequest> clientCredentialsTokenResponseClient(
+            RestTemplateBuilder restTemplateBuilder) {
+        DefaultClientCredentialsTokenResponseClient tokenResponseClient = new DefaultClientCredentialsTokenResponseClient();
+        tokenResponseClient.setRestOperations(restTemplateBuilder
+                .messageConverters(new FormHttpMessageConverter(), new OAuth2AccessTokenResponseHttpMessageConverter())
+                .errorHandler(new OAuth2ErrorResponseErrorHandler())
+                .build());
+        return tokenResponseClient;
+    }
+
 }
@@ -0,0 +1,37 @@
+package com.raul.forumhub.topic.config;
+
+import org.ehcache.config.Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+@org.springframework.context.annotation.Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * JCache providers share one manager per URI across the JVM, so two contexts on different databases (every
+     * integration test class, for one) would serve each other's cached rows. Each entity manager factory gets
+     * its own manager built from {@code ehcache.xml}, closed together with the context.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching
+                .getCachingProvider(EhcacheCachingProvider.class.getName());
+        Configuration configuration = new XmlConfiguration(this.getClass().getResource("/ehcache.xml"),
+                this.getClass().getClassLoader());
+        return provider.getCacheManager(URI.create("urn:forumhub:topic:hibernate:" + UUID.randomUUID()), configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+}
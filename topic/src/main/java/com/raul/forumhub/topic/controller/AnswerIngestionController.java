@@ -0,0 +1,88 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.dto.request.AnswerTopicDTO;
+import com.raul.forumhub.topic.dto.response.AnswerIngestionDTO;
+import com.raul.forumhub.topic.exception.InstanceNotFoundException;
+import com.raul.forumhub.topic.exception.ServiceUnavailableException;
+import com.raul.forumhub.topic.ingestion.AnswerIngestionProperties;
+import com.raul.forumhub.topic.ingestion.AnswerIngestionQueue;
+import com.raul.forumhub.topic.security.IsAuthenticated;
+import com.raul.forumhub.topic.service.AnswerService;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api-forum/v1/forumhub/topics")
+@ConditionalOnProperty(prefix = "forumhub.answer-ingestion", name = "enabled", havingValue = "true")
+public class AnswerIngestionController {
+
+    private final AnswerIngestionQueue answerIngestionQueue;
+
+    private final AnswerService answerService;
+
+    private final AnswerIngestionProperties properties;
+
+    public AnswerIngestionController(AnswerIngestionQueue answerIngestionQueue, AnswerService answerService,
+                                     AnswerIngestionProperties properties) {
+        this.answerIngestionQueue = answerIngestionQueue;
+        this.answerService = answerService;
+        this.properties = properties;
+    }
+
+    @IsAuthenticated
+    @PostMapping(value = "/{topic_id}/answer", headers = "Prefer")
+    public ResponseEntity<AnswerIngestionDTO> answerTopicAsync(@PathVariable Long topic_id,
+                                                               @Valid @RequestBody AnswerTopicDTO answerTopicDTO,
+                                                               @RequestHeader("Prefer") List<String> prefer,
+                                                               @AuthenticationPrincipal Jwt jwt) {
+
+        Long user_id = Long.parseLong(jwt.getClaim("user_id"));
+        if (!respondAsync(prefer)) {
+            this.answerService.answerTopic(topic_id, user_id, answerTopicDTO);
+            return new ResponseEntity<>(HttpStatus.CREATED);
+        }
+
+        AnswerIngestionDTO ingestion = this.answerIngestionQueue.submit(topic_id, user_id, answerTopicDTO.solution())
+                .orElseThrow(() -> new ServiceUnavailableException(
+                        Math.max(1, this.properties.getRetryAfter().toSeconds()),
+                        "Fila de respostas cheia, tente novamente mais tarde"));
+
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/api-forum/v1/forumhub/topics/answers/ingestions/{ingestion_id}")
+                        .buildAndExpand(ingestion.ingestion_id()).toUri())
+                .header("Preference-Applied", "respond-async")
+                .body(ingestion);
+    }
+
+    @IsAuthenticated
+    @GetMapping("/answers/ingestions/{ingestion_id}")
+    public ResponseEntity<AnswerIngestionDTO> getIngestion(@PathVariable String ingestion_id,
+                                                           @AuthenticationPrincipal Jwt jwt) {
+
+        Long user_id = Long.parseLong(jwt.getClaim("user_id"));
+        return this.answerIngestionQueue.ingestion(ingestion_id, user_id).map(ResponseEntity::ok)
+                .orElseThrow(() -> new InstanceNotFoundException("Processamento da resposta não encontrado"));
+    }
+
+    /**
+     * RFC 7240 preferences: a comma-separated list, each one a token optionally followed by {@code =value} and
+     * {@code ;parameters}, e.g. {@code respond-async, wait=5}.
+     */
+    static boolean respondAsync(List<String> prefer) {
+        return prefer.stream()
+                .flatMap(header -> Arrays.stream(header.split(",")))
+                .map(preference -> preference.split("[;=]", 2)[0].trim())
+                .anyMatch("respond-async"::equalsIgnoreCase);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.raul.forumhub.topic.controller;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.dto.request.AnswerBulkCreateDTO;
+import com.raul.forumhub.topic.dto.request.TopicBulkCreateDTO;
+import com.raul.forumhub.topic.dto.response.BulkItemResult;
+import com.raul.forumhub.topic.service.BulkIngestionService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api-forum/v1/forumhub/topics")
+public class BulkIngestionController {
+
+    private final BulkIngestionService bulkIngestionService;
+
+    private final ObjectMapper objectMapper;
+
+    public BulkIngestionController(BulkIngestionService bulkIngestionService, ObjectMapper objectMapper) {
+        this.bulkIngestionService = bulkIngestionService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PreAuthorize("hasRole('ADM')")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> createTopics(@RequestBody List<TopicBulkCreateDTO> topics,
+                                                             @AuthenticationPrincipal Jwt jwt) {
+
+        Long user_id = Long.parseLong(jwt.getClaim("user_id"));
+        return ResponseEntity.ok(this.bulkIngestionService.createTopics(topics.iterator(), user_id));
+    }
+
+    @PreAuthorize("hasRole('ADM')")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> createTopicsStream(HttpServletRequest request,
+                                                                   @AuthenticationPrincipal Jwt jwt) throws IOException {
+
+        Long user_id = Long.parseLong(jwt.getClaim("user_id"));
+        try (MappingIterator<TopicBulkCreateDTO> topics = this.objectMapper.readerFor(TopicBulkCreateDTO.class)
+                .readValues(request.getInputStream())) {
+            return ResponseEntity.ok(this.bulkIngestionService.createTopics(topics, user_id));
+        }
+    }
+
+    @PreAuthorize("hasRole('ADM')")
+    @PostMapping(value = "/{topic_id}/answers/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> answerTopic(@PathVariable Long topic_id,
+                                                            @RequestBody List<AnswerBulkCreateDTO> answers,
+                                                            @AuthenticationPrincipal Jwt jwt) {
+
+        Long user_id = Long.parseLong(jwt.getClaim("user_id"));
+        return ResponseEntity.ok(this.bulkIngestionService.answerTopic(topic_id, answers.iterator(), user_id));
+    }
+
+    @PreAuthorize("hasRole('ADM')")
+    @PostMapping(value = "/{topic_id}/answers/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> answerTopicStream(@PathVariable Long topic_id, HttpServletRequest request,
+                                                                  @AuthenticationPrincipal Jwt jwt) throws IOException {
+
+        Long user_id = Long.parseLong(jwt.getClaim("user_id"));
+        try (MappingIterator<AnswerBulkCreateDTO> answers = this.objectMapper.readerFor(AnswerBulkCreateDTO.class)
+                .readValues(request.getInputStream())) {
+            return ResponseEntity.ok(this.bulkIngestionService.answerTopic(topic_id, answers, user_id));
+        }
+    }
+
+}
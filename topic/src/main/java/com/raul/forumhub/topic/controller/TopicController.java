@@ -10,6 +10,7 @@ import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
@@ -19,6 +20,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/api-forum/v1/forumhub/topics")
 public class TopicController {
@@ -42,15 +45,22 @@ public class TopicController {
 
     @GetMapping("/listAll")
     public PagedModel<EntityModel<GetTopicDTO>> topicsList(@PageableDefault Pageable pageable,
+                                                           @RequestParam(required = false)
+                                                           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                           @RequestParam(required = false)
+                                                           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
                                                            PagedResourcesAssembler<GetTopicDTO> assembler) {
 
-        return assembler.toModel(topicService.topicList(pageable));
+        if (from == null && to == null) {
+            return assembler.toModel(topicService.topicList(pageable));
+        }
+        return assembler.toModel(topicService.topicListByPeriod(from, to, pageable));
     }
 
     @GetMapping
     public ResponseEntity<GetTopicDTO> getTopic(@RequestParam Long topic_id){
 
-        return ResponseEntity.ok(new GetTopicDTO(topicService.getTopicById(topic_id)));
+        return ResponseEntity.ok(new GetTopicDTO(topicService.viewTopic(topic_id)));
     }
 
     @PreAuthorize("hasAuthority('SCOPE_topic:edit')")
@@ -0,0 +1,27 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.stream.TopicEventBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api-forum/v1/forumhub/topics")
+public class TopicEventController {
+
+    private final TopicEventBroadcaster topicEventBroadcaster;
+
+    public TopicEventController(TopicEventBroadcaster topicEventBroadcaster) {
+        this.topicEventBroadcaster = topicEventBroadcaster;
+    }
+
+    @GetMapping(value = "/{topic_id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter topicEvents(@PathVariable Long topic_id) {
+
+        return this.topicEventBroadcaster.subscribe(topic_id);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.service.TopicExportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api-forum/v1/forumhub/topics")
+public class TopicExportController {
+
+    private final TopicExportService topicExportService;
+
+    public TopicExportController(TopicExportService topicExportService) {
+        this.topicExportService = topicExportService;
+    }
+
+    @PreAuthorize("hasRole('ADM')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "TOPICS") TopicExportService.Type type,
+            @RequestParam(defaultValue = "NDJSON") TopicExportService.Format format,
+            @RequestParam(required = false) Long course_id,
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        StreamingResponseBody body = this.topicExportService.export(type, format, course_id, status, from, to);
+        String fileName = type.name().toLowerCase(Locale.ROOT) + (format == TopicExportService.Format.CSV ? ".csv" : ".ndjson");
+
+        return ResponseEntity.ok()
+                .contentType(format == TopicExportService.Format.CSV
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+}
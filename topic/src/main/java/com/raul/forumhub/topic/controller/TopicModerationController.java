@@ -0,0 +1,32 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.dto.request.TopicModerationDTO;
+import com.raul.forumhub.topic.dto.response.GetModerationResultDTO;
+import com.raul.forumhub.topic.service.TopicModerationService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api-forum/v1/forumhub/topics")
+public class TopicModerationController {
+
+    private final TopicModerationService topicModerationService;
+
+    public TopicModerationController(TopicModerationService topicModerationService) {
+        this.topicModerationService = topicModerationService;
+    }
+
+    @PreAuthorize("hasAnyRole('MOD', 'ADM')")
+    @PostMapping("/moderate")
+    public ResponseEntity<GetModerationResultDTO> moderate(@Valid @RequestBody TopicModerationDTO topicModerationDTO,
+                                                           @AuthenticationPrincipal Jwt jwt) {
+
+        Long user_id = Long.parseLong(jwt.getClaim("user_id"));
+        return ResponseEntity.ok(this.topicModerationService.moderate(topicModerationDTO, user_id));
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.dto.response.TrendingTopicDTO;
+import com.raul.forumhub.topic.trending.TrendingTopicEngine;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api-forum/v1/forumhub/topics")
+public class TopicTrendingController {
+
+    private final TrendingTopicEngine trendingTopicEngine;
+
+    public TopicTrendingController(TrendingTopicEngine trendingTopicEngine) {
+        this.trendingTopicEngine = trendingTopicEngine;
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingTopicDTO>> trendingTopics(@RequestParam(required = false) Long course_id,
+                                                                 @RequestParam(required = false) Integer size) {
+
+        return ResponseEntity.ok(this.trendingTopicEngine.trending(course_id, size));
+    }
+
+}
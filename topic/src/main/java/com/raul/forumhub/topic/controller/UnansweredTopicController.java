@@ -0,0 +1,29 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.dto.response.UnansweredTopicsPage;
+import com.raul.forumhub.topic.service.UnansweredTopicService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api-forum/v1/forumhub/topics")
+public class UnansweredTopicController {
+
+    private final UnansweredTopicService unansweredTopicService;
+
+    public UnansweredTopicController(UnansweredTopicService unansweredTopicService) {
+        this.unansweredTopicService = unansweredTopicService;
+    }
+
+    @GetMapping("/unanswered")
+    public ResponseEntity<UnansweredTopicsPage> unansweredTopics(@RequestParam Long course_id,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(this.unansweredTopicService.unansweredTopics(course_id, cursor, size));
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.dto.response.UserActivityPage;
+import com.raul.forumhub.topic.service.UserActivityService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api-forum/v1/forumhub/users")
+public class UserActivityController {
+
+    private final UserActivityService userActivityService;
+
+    public UserActivityController(UserActivityService userActivityService) {
+        this.userActivityService = userActivityService;
+    }
+
+    @GetMapping("/{user_id}/activity")
+    public ResponseEntity<UserActivityPage> userActivity(@PathVariable Long user_id,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(this.userActivityService.userActivity(user_id, cursor, size));
+    }
+
+}
@@ -27,4 +27,6 @@ public class Author {
     @ManyToOne
     @JoinColumns(@JoinColumn(name = "profile_id", foreignKey = @ForeignKey(name = "profile_id")))
     private Profile profile;
+    @Column(nullable = false, updatable = false)
+    private boolean tombstone;
 }
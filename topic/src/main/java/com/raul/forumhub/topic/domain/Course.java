@@ -3,6 +3,10 @@ package com.raul.forumhub.topic.domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table
@@ -12,6 +16,8 @@ import lombok.*;
 @NoArgsConstructor
 @ToString
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+@NaturalIdCache
 public class Course {
 
     @Id
@@ -19,6 +25,7 @@ public class Course {
     @Column(name = "course_id")
     private Long id;
     @NotBlank
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String name;
     @Column(name = "category", nullable = false, length = 50)
@@ -3,6 +3,7 @@ package com.raul.forumhub.topic.domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -38,6 +39,9 @@ public class Topic {
     @ManyToOne
     @JoinColumns(@JoinColumn(name = "course_id", foreignKey = @ForeignKey(name = "course_id")))
     private Course course;
+    @Column(name = "answer_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private int answerCount;
     @OneToMany(mappedBy = "topic", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
     private Set<Answer> answers;
 
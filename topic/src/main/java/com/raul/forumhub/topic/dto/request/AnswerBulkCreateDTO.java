@@ -0,0 +1,9 @@
+package com.raul.forumhub.topic.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record AnswerBulkCreateDTO(@NotBlank(message = "A solução não pode ser vazia")
+                                  @Size(max = 255, message = "Payload com valor muito grande") String solution,
+                                  Long user_id) {
+}
@@ -0,0 +1,13 @@
+package com.raul.forumhub.topic.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record TopicBulkCreateDTO(@NotBlank(message = "O título não pode ser vazio")
+                                 @Size(max = 150, message = "Payload com valor muito grande") String title,
+                                 @NotBlank(message = "A pergunta não pode ser vazia")
+                                 @Size(max = 255, message = "Payload com valor muito grande") String question,
+                                 @NotNull(message = "O id do curso não pode ser nulo") Long course_id,
+                                 Long user_id) {
+}
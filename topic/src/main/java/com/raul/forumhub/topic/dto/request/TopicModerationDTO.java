@@ -0,0 +1,19 @@
+package com.raul.forumhub.topic.dto.request;
+
+import com.raul.forumhub.topic.domain.Status;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record TopicModerationDTO(@NotNull(message = "A ação de moderação não pode ser nula") Action action,
+                                 List<Long> topic_ids,
+                                 Long course_id,
+                                 Status status,
+                                 Long target_course_id) {
+
+    public enum Action {
+        CLOSE,
+        REASSIGN_COURSE,
+        DELETE
+    }
+}
@@ -0,0 +1,6 @@
+package com.raul.forumhub.topic.dto.response;
+
+import java.time.LocalDateTime;
+
+public record AnswerActivityRow(Long topic_id, Long course_id, LocalDateTime createdAt, boolean bestAnswer) {
+}
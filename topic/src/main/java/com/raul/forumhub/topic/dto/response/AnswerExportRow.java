@@ -0,0 +1,7 @@
+package com.raul.forumhub.topic.dto.response;
+
+import java.time.LocalDateTime;
+
+public record AnswerExportRow(Long answer_id, Long topic_id, String solution, boolean bestAnswer,
+                              LocalDateTime createdAt, Long user_id) {
+}
@@ -0,0 +1,9 @@
+package com.raul.forumhub.topic.dto.response;
+
+public record AnswerIngestionDTO(String ingestion_id, Status status, Long answer_id, String detail) {
+
+    public enum Status {
+        PENDING, CREATED, FAILED
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.raul.forumhub.topic.dto.response;
+
+import com.raul.forumhub.topic.domain.Answer;
+
+import java.time.LocalDateTime;
+
+public record AnswerSummaryDTO(Long id, String solution, boolean bestAnswer, LocalDateTime createdAt,
+                               AuthorSummaryDTO author) {
+
+    public AnswerSummaryDTO(Answer answer) {
+        this(answer.getId(), answer.getSolution(), answer.isBestAnswer(), answer.getCreatedAt(),
+                answer.getAuthor() == null ? null : new AuthorSummaryDTO(answer.getAuthor()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.raul.forumhub.topic.dto.response;
+
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.domain.Profile;
+
+public record AuthorSummaryDTO(Long id, String username, Profile.ProfileName profile) {
+
+    public AuthorSummaryDTO(Author author) {
+        this(author.getId(), author.getUsername(),
+                author.getProfile() == null ? null : author.getProfile().getProfileName());
+    }
+}
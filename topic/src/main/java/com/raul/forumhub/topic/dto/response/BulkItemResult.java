@@ -0,0 +1,4 @@
+package com.raul.forumhub.topic.dto.response;
+
+public record BulkItemResult(int index, Long id, int status, String detail) {
+}
@@ -0,0 +1,10 @@
+package com.raul.forumhub.topic.dto.response;
+
+import com.raul.forumhub.topic.domain.Course;
+
+public record CourseSummaryDTO(Long id, String name, Course.Category category) {
+
+    public CourseSummaryDTO(Course course) {
+        this(course.getId(), course.getName(), course.getCategory());
+    }
+}
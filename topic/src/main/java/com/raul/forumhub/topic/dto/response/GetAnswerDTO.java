@@ -2,5 +2,9 @@ package com.raul.forumhub.topic.dto.response;
 
 import com.raul.forumhub.topic.domain.Answer;
 
-public record GetAnswerDTO(Answer answer) {
+public record GetAnswerDTO(AnswerSummaryDTO answer) {
+
+    public GetAnswerDTO(Answer answer) {
+        this(new AnswerSummaryDTO(answer));
+    }
 }
@@ -4,5 +4,9 @@ import com.raul.forumhub.topic.domain.Course;
 
 import java.util.List;
 
-public record GetCourseCollection(List<Course> course) {
+public record GetCourseCollection(List<CourseSummaryDTO> course) {
+
+    public static GetCourseCollection of(List<Course> courses) {
+        return new GetCourseCollection(courses.stream().map(CourseSummaryDTO::new).toList());
+    }
 }
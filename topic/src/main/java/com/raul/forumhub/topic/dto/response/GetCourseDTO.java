@@ -2,5 +2,9 @@ package com.raul.forumhub.topic.dto.response;
 
 import com.raul.forumhub.topic.domain.Course;
 
-public record GetCourseDTO(Course course) {
+public record GetCourseDTO(CourseSummaryDTO course) {
+
+    public GetCourseDTO(Course course) {
+        this(new CourseSummaryDTO(course));
+    }
 }
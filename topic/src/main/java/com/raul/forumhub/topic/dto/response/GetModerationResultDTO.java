@@ -0,0 +1,6 @@
+package com.raul.forumhub.topic.dto.response;
+
+import com.raul.forumhub.topic.dto.request.TopicModerationDTO;
+
+public record GetModerationResultDTO(TopicModerationDTO.Action action, int affectedTopics) {
+}
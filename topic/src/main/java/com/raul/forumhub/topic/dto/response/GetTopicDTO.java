@@ -1,15 +1,23 @@
 package com.raul.forumhub.topic.dto.response;
 
-import com.raul.forumhub.topic.domain.*;
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.domain.Topic;
 
 import java.time.LocalDateTime;
-import java.util.Set;
+import java.util.Comparator;
+import java.util.List;
 
-public record GetTopicDTO(Long id, String title, String question, LocalDateTime createdAt, Status status, Author author,
-                          Course course, Set<Answer> answer) {
+public record GetTopicDTO(Long id, String title, String question, LocalDateTime createdAt, Status status,
+                          AuthorSummaryDTO author, CourseSummaryDTO course, List<AnswerSummaryDTO> answer) {
 
     public GetTopicDTO(Topic topic) {
         this(topic.getId(), topic.getTitle(), topic.getQuestion(), topic.getCreatedAt(), topic.getStatus(),
-                topic.getAuthor(), topic.getCourse(), topic.getAnswers());
+                topic.getAuthor() == null ? null : new AuthorSummaryDTO(topic.getAuthor()),
+                topic.getCourse() == null ? null : new CourseSummaryDTO(topic.getCourse()),
+                topic.getAnswers() == null ? List.of() : topic.getAnswers().stream()
+                        .sorted(Comparator.comparing(Answer::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                        .map(AnswerSummaryDTO::new)
+                        .toList());
     }
 }
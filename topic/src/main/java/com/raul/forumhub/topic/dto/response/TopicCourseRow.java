@@ -0,0 +1,4 @@
+package com.raul.forumhub.topic.dto.response;
+
+public record TopicCourseRow(Long topic_id, Long course_id) {
+}
@@ -0,0 +1,9 @@
+package com.raul.forumhub.topic.dto.response;
+
+import com.raul.forumhub.topic.domain.Status;
+
+import java.time.LocalDateTime;
+
+public record TopicExportRow(Long topic_id, String title, String question, Status status,
+                             LocalDateTime createdAt, Long user_id, Long course_id) {
+}
@@ -0,0 +1,12 @@
+package com.raul.forumhub.topic.dto.response;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.domain.Topic;
+
+public record TopicSummaryDTO(Long id, String title, String question, Status status, CourseSummaryDTO course) {
+
+    public TopicSummaryDTO(Topic topic) {
+        this(topic.getId(), topic.getTitle(), topic.getQuestion(), topic.getStatus(),
+                topic.getCourse() == null ? null : new CourseSummaryDTO(topic.getCourse()));
+    }
+}
@@ -0,0 +1,4 @@
+package com.raul.forumhub.topic.dto.response;
+
+public record TrendingTopicDTO(Long topic_id, Long course_id, double score) {
+}
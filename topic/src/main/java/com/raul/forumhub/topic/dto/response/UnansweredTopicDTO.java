@@ -0,0 +1,7 @@
+package com.raul.forumhub.topic.dto.response;
+
+import java.time.LocalDateTime;
+
+public record UnansweredTopicDTO(Long id, String title, String question, LocalDateTime createdAt, Long user_id,
+                                 Long course_id) {
+}
@@ -0,0 +1,6 @@
+package com.raul.forumhub.topic.dto.response;
+
+import java.util.List;
+
+public record UnansweredTopicsPage(List<UnansweredTopicDTO> topics, String next_cursor) {
+}
@@ -0,0 +1,6 @@
+package com.raul.forumhub.topic.dto.response;
+
+import java.time.LocalDateTime;
+
+public record UserActivityDTO(String type, Long id, Long topic_id, String content, LocalDateTime createdAt) {
+}
@@ -0,0 +1,32 @@
+package com.raul.forumhub.topic.event;
+
+/**
+ * {@code previous_course_id} is only set on {@link Type#TOPIC_UPDATED}, where it holds the course the topic had
+ * before the update; it equals {@code course_id} when the course didn't change.
+ */
+public record TopicActivityEvent(Type type, Long topic_id, Long course_id, Long user_id, Long previous_course_id) {
+
+    public TopicActivityEvent(Type type, Long topic_id, Long course_id, Long user_id) {
+        this(type, topic_id, course_id, user_id, null);
+    }
+
+    public static TopicActivityEvent topicUpdated(Long topic_id, Long previous_course_id, Long course_id,
+                                                  Long user_id) {
+        return new TopicActivityEvent(Type.TOPIC_UPDATED, topic_id, course_id, user_id, previous_course_id);
+    }
+
+    public boolean courseChanged() {
+        return this.previous_course_id != null && !this.previous_course_id.equals(this.course_id);
+    }
+
+    public enum Type {
+        TOPIC_CREATED,
+        TOPIC_UPDATED,
+        TOPIC_DELETED,
+        TOPIC_VIEWED,
+        ANSWER_CREATED,
+        ANSWER_DELETED,
+        BEST_ANSWER_MARKED
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.raul.forumhub.topic.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class TopicActivityMetricsListener {
+
+    private final Map<TopicActivityEvent.Type, Counter> counters = new EnumMap<>(TopicActivityEvent.Type.class);
+
+    public TopicActivityMetricsListener(MeterRegistry meterRegistry) {
+        this.counters.put(TopicActivityEvent.Type.TOPIC_CREATED, Counter.builder("forumhub.topics.created")
+                .description("Tópicos criados").register(meterRegistry));
+        this.counters.put(TopicActivityEvent.Type.TOPIC_DELETED, Counter.builder("forumhub.topics.deleted")
+                .description("Tópicos excluídos").register(meterRegistry));
+        this.counters.put(TopicActivityEvent.Type.ANSWER_CREATED, Counter.builder("forumhub.answers.created")
+                .description("Respostas criadas").register(meterRegistry));
+        this.counters.put(TopicActivityEvent.Type.BEST_ANSWER_MARKED, Counter.builder("forumhub.answers.best")
+                .description("Respostas marcadas como melhor resposta").register(meterRegistry));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicActivity(TopicActivityEvent event) {
+        Counter counter = this.counters.get(event.type());
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.raul.forumhub.topic.event;
+
+import java.util.Locale;
+
+public record TopicStreamEvent(Type type, Long topic_id, Object data) {
+
+    public enum Type {
+        ANSWER_CREATED,
+        ANSWER_UPDATED,
+        ANSWER_DELETED,
+        BEST_ANSWER_MARKED,
+        TOPIC_UPDATED;
+
+        public String eventName() {
+            return this.name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.raul.forumhub.topic.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(long retryAfterSeconds, String detailMessage){
+        super(detailMessage);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -3,6 +3,7 @@ package com.raul.forumhub.topic.exception.handler;
 import com.raul.forumhub.topic.exception.AbstractServiceException;
 import com.raul.forumhub.topic.exception.InstanceNotFoundException;
 import com.raul.forumhub.topic.exception.RestClientException;
+import com.raul.forumhub.topic.exception.ServiceUnavailableException;
 import com.raul.forumhub.topic.exception.ValidationException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -99,6 +100,15 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(entity, headers(), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    private ResponseEntity<ExceptionEntity> serviceUnavailableExceptionResolver(ServiceUnavailableException ex, HttpServletRequest request) {
+        HttpHeaders headers = headers();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        ExceptionEntity entity = new ExceptionEntity(LocalDateTime.now(), HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Solicitação não processada", ex.getMessage(), request.getRequestURI());
+        return new ResponseEntity<>(entity, headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(ServletException.class)
     private ResponseEntity<ExceptionEntity> noResourceExceptionResolver(ServletException ex, HttpServletRequest request) {
         HttpStatus status = ex instanceof NoResourceFoundException ? HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST;
@@ -0,0 +1,193 @@
+package com.raul.forumhub.topic.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.exception.handler.ExceptionEntity;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY) == null
+                || !this.idempotencyStore.handles(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long user_id = principalUserId();
+        if (user_id == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            this.problem(request, response, HttpStatus.BAD_REQUEST, "Idempotency-Key deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, request.getInputStream().readAllBytes());
+        String fingerprint = fingerprint(request, cachedRequest.body);
+        IdempotencyStore.Claim claim = this.idempotencyStore.begin(user_id, key, fingerprint);
+
+        switch (claim.state()) {
+            case REPLAY -> this.replay(response, claim.response());
+            case MISMATCH -> this.problem(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key já utilizada em uma requisição diferente");
+            case IN_PROGRESS -> this.problem(request, response, HttpStatus.CONFLICT,
+                    "Requisição com a mesma Idempotency-Key ainda em processamento");
+            case EXECUTE -> this.execute(cachedRequest, response, filterChain, user_id, key, fingerprint, claim);
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain, Long user_id,
+                         String key, String fingerprint, IdempotencyStore.Claim claim) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, cachedResponse);
+            if (HttpStatusCode.valueOf(cachedResponse.getStatus()).is2xxSuccessful()) {
+                this.idempotencyStore.complete(user_id, key, claim, new StoredResponse(fingerprint, cachedResponse.getStatus(),
+                        cachedResponse.getContentType(), cachedResponse.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                this.idempotencyStore.release(user_id, key, claim);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader("Idempotent-Replayed", "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null && stored.body().length > 0) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private void problem(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String detail)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        this.objectMapper.writeValue(response.getOutputStream(), new ExceptionEntity(LocalDateTime.now(), status.value(),
+                "Solicitação não processada", detail, request.getRequestURI()));
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Long principalUserId() {
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof JwtAuthenticationToken token) {
+            String user_id = token.getToken().getClaimAsString("user_id");
+            return user_id == null ? null : Long.parseLong(user_id);
+        }
+        return null;
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(this.body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws UnsupportedEncodingException {
+            String encoding = this.getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : this.getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(this.getInputStream(), encoding));
+        }
+
+        @Override
+        public int getContentLength() {
+            return this.body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return this.body.length;
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.raul.forumhub.topic.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties("forumhub.idempotency")
+@Getter
+@Setter
+public class IdempotencyProperties {
+
+    private boolean enabled;
+    private List<String> paths = new ArrayList<>();
+    private Duration ttl = Duration.ofHours(24);
+    private Duration lease = Duration.ofMinutes(1);
+    private int maxEntries = 10000;
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    private Duration cleanupDelay = Duration.ofMinutes(10);
+
+}
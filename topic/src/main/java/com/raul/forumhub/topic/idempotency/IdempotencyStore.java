@@ -0,0 +1,163 @@
+package com.raul.forumhub.topic.idempotency;
+
+import com.raul.forumhub.topic.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency keys per user. Recent keys stay in a bounded in-memory tier where duplicates of an in-flight request
+ * wait for its response; the {@code idempotency_key} table makes the claim visible to every instance and keeps
+ * the response until it expires. A claim in progress holds a short lease there, so a key whose instance died before
+ * completing it can be taken over once the lease has lapsed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "forumhub.idempotency", name = "enabled", havingValue = "true")
+public class IdempotencyStore {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private final IdempotencyProperties properties;
+
+    private final List<PathPattern> paths;
+
+    private final Map<Key, Entry> entries;
+
+    private final Counter replayed;
+
+    public IdempotencyStore(IdempotencyKeyRepository idempotencyKeyRepository, IdempotencyProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.properties = properties;
+        this.paths = properties.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return this.size() > properties.getMaxEntries();
+            }
+        };
+        this.replayed = Counter.builder("forumhub.idempotency.replayed")
+                .description("Respostas reenviadas para requisições repetidas").register(meterRegistry);
+    }
+
+    public boolean handles(String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        return this.paths.stream().anyMatch(pattern -> pattern.matches(pathContainer));
+    }
+
+    public Claim begin(Long user_id, String key, String fingerprint) {
+        Key cacheKey = new Key(user_id, key);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Entry created = new Entry(now, now.plus(this.properties.getTtl()));
+        Entry entry;
+        synchronized (this.entries) {
+            entry = this.entries.get(cacheKey);
+            if (entry == null || entry.expiresAt().isBefore(now)) {
+                this.entries.put(cacheKey, created);
+                entry = created;
+            }
+        }
+        if (entry != created) {
+            return this.await(entry, fingerprint);
+        }
+
+        if (this.idempotencyKeyRepository.claim(user_id, key, fingerprint, now, created.expiresAt(),
+                now.minus(this.properties.getLease()))) {
+            return new Claim(Claim.State.EXECUTE, created, null);
+        }
+
+        Optional<StoredResponse> stored = this.idempotencyKeyRepository.find(user_id, key)
+                .filter(response -> response.status() > 0);
+        if (stored.isEmpty()) {
+            this.remove(cacheKey, created);
+            created.response().complete(null);
+            return new Claim(Claim.State.IN_PROGRESS, null, null);
+        }
+        created.response().complete(stored.get());
+        return this.replay(stored.get(), fingerprint);
+    }
+
+    public void complete(Long user_id, String key, Claim claim, StoredResponse response) {
+        this.idempotencyKeyRepository.complete(user_id, key, claim.entry().claimedAt(), response);
+        claim.entry().response().complete(response);
+    }
+
+    public void release(Long user_id, String key, Claim claim) {
+        this.idempotencyKeyRepository.release(user_id, key, claim.entry().claimedAt());
+        this.remove(new Key(user_id, key), claim.entry());
+        claim.entry().response().complete(null);
+    }
+
+    @Scheduled(fixedDelayString = "${forumhub.idempotency.cleanup-delay:600000}")
+    public void deleteExpired() {
+        Instant now = Instant.now();
+        synchronized (this.entries) {
+            this.entries.values().removeIf(entry -> entry.expiresAt().isBefore(now));
+        }
+        int deleted = this.idempotencyKeyRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.info("Idempotency keys expired ==> {}", deleted);
+        }
+    }
+
+    private Claim await(Entry entry, String fingerprint) {
+        try {
+            StoredResponse response = entry.response().get(this.properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            return response == null ? new Claim(Claim.State.IN_PROGRESS, null, null) : this.replay(response, fingerprint);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ignored) {
+        }
+        return new Claim(Claim.State.IN_PROGRESS, null, null);
+    }
+
+    private Claim replay(StoredResponse response, String fingerprint) {
+        if (!response.fingerprint().equals(fingerprint)) {
+            return new Claim(Claim.State.MISMATCH, null, null);
+        }
+        this.replayed.increment();
+        return new Claim(Claim.State.REPLAY, null, response);
+    }
+
+    private void remove(Key key, Entry entry) {
+        synchronized (this.entries) {
+            this.entries.remove(key, entry);
+        }
+    }
+
+    private record Key(Long user_id, String key) {
+    }
+
+    record Entry(Instant claimedAt, Instant expiresAt, CompletableFuture<StoredResponse> response) {
+
+        Entry(Instant claimedAt, Instant expiresAt) {
+            this(claimedAt, expiresAt, new CompletableFuture<>());
+        }
+    }
+
+    public record Claim(State state, Entry entry, StoredResponse response) {
+
+        public enum State {
+            EXECUTE, REPLAY, MISMATCH, IN_PROGRESS
+        }
+    }
+
+}
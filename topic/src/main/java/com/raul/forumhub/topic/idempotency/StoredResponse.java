@@ -0,0 +1,4 @@
+package com.raul.forumhub.topic.idempotency;
+
+public record StoredResponse(String fingerprint, int status, String contentType, byte[] body) {
+}
@@ -0,0 +1,25 @@
+package com.raul.forumhub.topic.ingestion;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties("forumhub.answer-ingestion")
+@Getter
+@Setter
+public class AnswerIngestionProperties {
+
+    private boolean enabled;
+    private int queueCapacity = 10000;
+    private int batchSize = 200;
+    private Duration flushInterval = Duration.ofMillis(50);
+    private Duration enqueueTimeout = Duration.ofMillis(100);
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Duration resultTtl = Duration.ofMinutes(10);
+    private Duration cleanupDelay = Duration.ofMinutes(1);
+
+}
@@ -0,0 +1,283 @@
+package com.raul.forumhub.topic.ingestion;
+
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.dto.response.AnswerIngestionDTO;
+import com.raul.forumhub.topic.dto.response.AnswerSummaryDTO;
+import com.raul.forumhub.topic.dto.response.TopicCourseRow;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.event.TopicStreamEvent;
+import com.raul.forumhub.topic.repository.AnswerIngestionRepository;
+import com.raul.forumhub.topic.repository.AuthorRepository;
+import com.raul.forumhub.topic.repository.BatchInsertRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Asynchronous answer writes. Request threads only enqueue; a single writer drains the queue in group commits of
+ * up to {@code batch-size} answers or one {@code flush-interval}, resolving topics and authors once per batch and
+ * inserting every answer with one multi-row statement. A pending ingestion is only tracked in memory, so enqueuing
+ * costs no round trip; its outcome is written to the {@code answer_ingestion} table in the same transaction as the
+ * answers, so any instance can answer the polling request once the batch is flushed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "forumhub.answer-ingestion", name = "enabled", havingValue = "true")
+public class AnswerIngestionQueue {
+
+    private final BatchInsertRepository batchInsertRepository;
+
+    private final TopicRepository topicRepository;
+
+    private final AuthorRepository authorRepository;
+
+    private final AnswerIngestionRepository answerIngestionRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AnswerIngestionProperties properties;
+
+    private final BlockingQueue<PendingAnswer> queue;
+
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "answer-ingestion-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter overflow;
+
+    private volatile boolean running = true;
+
+    public AnswerIngestionQueue(BatchInsertRepository batchInsertRepository, TopicRepository topicRepository,
+                                AuthorRepository authorRepository, AnswerIngestionRepository answerIngestionRepository,
+                                TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher, AnswerIngestionProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.batchInsertRepository = batchInsertRepository;
+        this.topicRepository = topicRepository;
+        this.authorRepository = authorRepository;
+        this.answerIngestionRepository = answerIngestionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("forumhub.answers.ingestion.queued", this.queue, BlockingQueue::size)
+                .description("Respostas aguardando gravação").register(meterRegistry);
+        this.overflow = Counter.builder("forumhub.answers.ingestion.overflow")
+                .description("Respostas recusadas por fila cheia").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        this.writer.execute(() -> {
+            while (this.running || !this.queue.isEmpty()) {
+                try {
+                    this.drainOnce();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException ex) {
+                    log.warn("Answer ingestion ==> Falha ao processar o lote", ex);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return the pending ingestion, or empty when the queue stayed full for {@code enqueue-timeout}
+     */
+    public Optional<AnswerIngestionDTO> submit(Long topic_id, Long user_id, String solution) {
+        String ingestion_id = UUID.randomUUID().toString();
+        this.inFlight.put(ingestion_id, user_id);
+
+        try {
+            if (this.queue.offer(new PendingAnswer(ingestion_id, topic_id, user_id, new Answer(solution)),
+                    this.properties.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return Optional.of(pending(ingestion_id));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        this.inFlight.remove(ingestion_id);
+        this.overflow.increment();
+        return Optional.empty();
+    }
+
+    public Optional<AnswerIngestionDTO> ingestion(String ingestion_id, Long user_id) {
+        if (user_id.equals(this.inFlight.get(ingestion_id))) {
+            return Optional.of(pending(ingestion_id));
+        }
+        return this.answerIngestionRepository.find(ingestion_id, user_id);
+    }
+
+    int drainOnce() throws InterruptedException {
+        long flushInterval = this.properties.getFlushInterval().toNanos();
+        PendingAnswer first = this.queue.poll(flushInterval, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return 0;
+        }
+
+        int batchSize = this.properties.getBatchSize();
+        List<PendingAnswer> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + flushInterval;
+        while (batch.size() < batchSize) {
+            if (this.queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            PendingAnswer next = remaining > 0 ? this.queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+
+        this.flush(batch);
+        return batch.size();
+    }
+
+    private void flush(List<PendingAnswer> batch) {
+        try {
+            this.write(batch);
+        } finally {
+            batch.forEach(pending -> this.inFlight.remove(pending.ingestion_id()));
+        }
+    }
+
+    private void write(List<PendingAnswer> batch) {
+        List<PendingAnswer> accepted = new ArrayList<>(batch.size());
+        List<AnswerIngestionDTO> results = new ArrayList<>(batch.size());
+        List<Long> owners = new ArrayList<>(batch.size());
+        Map<Long, Long> courses;
+        try {
+            // Topics are resolved with a share lock in the insert transaction, so a concurrent delete can't
+            // remove them between the lookup and the insert.
+            courses = Objects.requireNonNull(this.transactionTemplate.execute(status -> {
+                Map<Long, Long> locked = this.topicRepository.lockCourseIdsByIds(batch.stream()
+                                .map(PendingAnswer::topic_id).collect(Collectors.toSet()))
+                        .stream().collect(Collectors.toMap(TopicCourseRow::topic_id, TopicCourseRow::course_id));
+                Map<Long, Author> authors = this.authorRepository.findAllById(batch.stream()
+                                .map(PendingAnswer::user_id).collect(Collectors.toSet()))
+                        .stream().collect(Collectors.toMap(Author::getId, Function.identity()));
+
+                for (PendingAnswer pending : batch) {
+                    Author author = authors.get(pending.user_id());
+                    if (!locked.containsKey(pending.topic_id())) {
+                        results.add(failed(pending, "O tópico informado não existe"));
+                        owners.add(pending.user_id());
+                    } else if (author == null) {
+                        results.add(failed(pending, "Usuário não encontrado"));
+                        owners.add(pending.user_id());
+                    } else {
+                        pending.answer().setTopic(this.topicRepository.getReferenceById(pending.topic_id()));
+                        pending.answer().setAuthor(author);
+                        accepted.add(pending);
+                    }
+                }
+                if (accepted.isEmpty()) {
+                    return locked;
+                }
+
+                List<Answer> answers = accepted.stream().map(PendingAnswer::answer).toList();
+                List<Long> inserted = this.batchInsertRepository.insertAnswers(answers);
+                accepted.stream().collect(Collectors.groupingBy(PendingAnswer::topic_id, Collectors.counting()))
+                        .forEach((topic_id, count) -> this.topicRepository.adjustAnswerCount(topic_id, count.intValue()));
+
+                List<AnswerIngestionDTO> completed = new ArrayList<>(results);
+                List<Long> user_ids = new ArrayList<>(owners);
+                for (int i = 0; i < accepted.size(); i++) {
+                    answers.get(i).setId(inserted.get(i));
+                    completed.add(new AnswerIngestionDTO(accepted.get(i).ingestion_id(), AnswerIngestionDTO.Status.CREATED,
+                            inserted.get(i), null));
+                    user_ids.add(accepted.get(i).user_id());
+                }
+                this.answerIngestionRepository.complete(completed, user_ids);
+                return locked;
+            }));
+        } catch (DataAccessException ex) {
+            log.warn("Answer ingestion ==> Falha ao gravar lote de {} respostas", batch.size(), ex);
+            accepted.forEach(pending -> {
+                results.add(failed(pending, "Lote não processado"));
+                owners.add(pending.user_id());
+            });
+            this.completeQuietly(results, owners);
+            return;
+        }
+        if (accepted.isEmpty()) {
+            this.completeQuietly(results, owners);
+            return;
+        }
+
+        for (int i = 0; i < accepted.size(); i++) {
+            PendingAnswer pending = accepted.get(i);
+            Answer answer = pending.answer();
+
+            this.eventPublisher.publishEvent(new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_CREATED,
+                    pending.topic_id(), courses.get(pending.topic_id()), pending.user_id()));
+            this.eventPublisher.publishEvent(new TopicStreamEvent(TopicStreamEvent.Type.ANSWER_CREATED,
+                    pending.topic_id(), new AnswerSummaryDTO(answer)));
+        }
+        log.info("Answer ingestion ==> {} respostas gravadas", accepted.size());
+    }
+
+    @Scheduled(fixedDelayString = "${forumhub.answer-ingestion.cleanup-delay:60000}")
+    public void evictCompleted() {
+        int expired = this.answerIngestionRepository.deleteExpired(Instant.now().minus(this.properties.getResultTtl()));
+        if (expired > 0) {
+            log.info("Answer ingestion ==> {} registros expirados", expired);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        this.running = false;
+        this.writer.shutdown();
+        if (!this.writer.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Answer ingestion ==> {} respostas não gravadas no desligamento", this.queue.size());
+        }
+    }
+
+    private void completeQuietly(List<AnswerIngestionDTO> results, List<Long> user_ids) {
+        try {
+            this.answerIngestionRepository.complete(results, user_ids);
+        } catch (DataAccessException ex) {
+            log.warn("Answer ingestion ==> Falha ao registrar {} respostas não gravadas", results.size(), ex);
+        }
+    }
+
+    private static AnswerIngestionDTO pending(String ingestion_id) {
+        return new AnswerIngestionDTO(ingestion_id, AnswerIngestionDTO.Status.PENDING, null, null);
+    }
+
+    private static AnswerIngestionDTO failed(PendingAnswer pending, String detail) {
+        return new AnswerIngestionDTO(pending.ingestion_id(), AnswerIngestionDTO.Status.FAILED, null, detail);
+    }
+
+    private record PendingAnswer(String ingestion_id, Long topic_id, Long user_id, Answer answer) {
+    }
+
+}
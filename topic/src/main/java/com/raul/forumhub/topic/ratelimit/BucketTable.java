@@ -0,0 +1,62 @@
+package com.raul.forumhub.topic.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user buckets split across independent stripes. A stripe over its share of the bound first drops buckets
+ * that are already full, which is lossless since a new bucket starts full, and only then arbitrary ones.
+ */
+final class BucketTable {
+
+    private final List<ConcurrentHashMap<Long, TokenBucket>> stripes;
+
+    private final int maxPerStripe;
+
+    private final int capacity;
+
+    private final long periodMillis;
+
+    BucketTable(int stripes, int maxUsers, int capacity, long periodMillis) {
+        if (capacity < 1 || capacity > TokenBucket.MAX_CAPACITY || periodMillis < 1) {
+            throw new IllegalArgumentException("Limite de requisições inválido");
+        }
+        this.stripes = new ArrayList<>(stripes);
+        for (int i = 0; i < stripes; i++) {
+            this.stripes.add(new ConcurrentHashMap<>());
+        }
+        this.maxPerStripe = Math.max(1, maxUsers / stripes);
+        this.capacity = capacity;
+        this.periodMillis = periodMillis;
+    }
+
+    long tryAcquire(Long user_id, long nowMillis) {
+        ConcurrentHashMap<Long, TokenBucket> stripe = this.stripes.get(Math.floorMod(Long.hashCode(user_id * 0x9E3779B97F4A7C15L),
+                this.stripes.size()));
+        TokenBucket bucket = stripe.get(user_id);
+        if (bucket == null) {
+            bucket = stripe.computeIfAbsent(user_id, id -> new TokenBucket(this.capacity, this.periodMillis, nowMillis));
+            if (stripe.size() > this.maxPerStripe) {
+                this.evict(stripe, user_id, nowMillis);
+            }
+        }
+        return bucket.tryAcquire(nowMillis);
+    }
+
+    int size() {
+        return this.stripes.stream().mapToInt(ConcurrentHashMap::size).sum();
+    }
+
+    private void evict(ConcurrentHashMap<Long, TokenBucket> stripe, Long keep, long nowMillis) {
+        stripe.entrySet().removeIf(entry -> !entry.getKey().equals(keep) && entry.getValue().isFull(nowMillis));
+        Iterator<Long> keys = stripe.keySet().iterator();
+        while (stripe.size() > this.maxPerStripe && keys.hasNext()) {
+            if (!keys.next().equals(keep)) {
+                keys.remove();
+            }
+        }
+    }
+
+}
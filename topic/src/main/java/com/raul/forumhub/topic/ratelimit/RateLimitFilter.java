@@ -0,0 +1,60 @@
+package com.raul.forumhub.topic.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.exception.handler.ExceptionEntity;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long user_id = principalUserId();
+        if (user_id != null) {
+            long wait = this.rateLimiter.tryAcquire(request.getMethod(),
+                    request.getRequestURI().substring(request.getContextPath().length()), user_id);
+            if (wait > 0) {
+                long retryAfter = (wait + 999) / 1000;
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+                response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+                response.setCharacterEncoding("UTF-8");
+                this.objectMapper.writeValue(response.getOutputStream(), new ExceptionEntity(LocalDateTime.now(),
+                        HttpStatus.TOO_MANY_REQUESTS.value(), "Limite de requisições excedido",
+                        "Muitas requisições, tente novamente em " + retryAfter + " segundo(s)", request.getRequestURI()));
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static Long principalUserId() {
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof JwtAuthenticationToken token) {
+            String user_id = token.getToken().getClaimAsString("user_id");
+            return user_id == null ? null : Long.parseLong(user_id);
+        }
+        return null;
+    }
+
+}
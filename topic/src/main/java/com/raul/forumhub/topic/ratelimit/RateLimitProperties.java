@@ -0,0 +1,34 @@
+package com.raul.forumhub.topic.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties("forumhub.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled;
+    private int maxUsers = 100000;
+    private int stripes = 64;
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        private String method = "POST";
+        private String path;
+        private int capacity = 10;
+        private Duration period = Duration.ofMinutes(1);
+
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.raul.forumhub.topic.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(prefix = "forumhub.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimiter {
+
+    private final long origin = System.nanoTime();
+
+    private final List<Limit> limits;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.limits = properties.getRules().entrySet().stream().map(entry -> {
+            RateLimitProperties.Rule rule = entry.getValue();
+            Limit limit = new Limit(rule.getMethod(), PathPatternParser.defaultInstance.parse(rule.getPath()),
+                    new BucketTable(properties.getStripes(), properties.getMaxUsers(), rule.getCapacity(),
+                            rule.getPeriod().toMillis()),
+                    Counter.builder("forumhub.ratelimit.rejected").tag("endpoint", entry.getKey())
+                            .description("Requisições rejeitadas pelo limite por usuário").register(meterRegistry));
+            Gauge.builder("forumhub.ratelimit.buckets", limit.buckets(), BucketTable::size).tag("endpoint", entry.getKey())
+                    .description("Usuários com limite em memória").register(meterRegistry);
+            return limit;
+        }).toList();
+    }
+
+    /**
+     * @return zero when the request may proceed, otherwise the milliseconds the user must wait
+     */
+    public long tryAcquire(String method, String path, Long user_id) {
+        PathContainer pathContainer = null;
+        for (Limit limit : this.limits) {
+            if (!limit.method().equalsIgnoreCase(method)) {
+                continue;
+            }
+            pathContainer = pathContainer == null ? PathContainer.parsePath(path) : pathContainer;
+            if (limit.pattern().matches(pathContainer)) {
+                long wait = limit.buckets().tryAcquire(user_id, (System.nanoTime() - this.origin) / 1_000_000);
+                if (wait > 0) {
+                    limit.rejected().increment();
+                }
+                return wait;
+            }
+        }
+        return 0;
+    }
+
+    private record Limit(String method, PathPattern pattern, BucketTable buckets, Counter rejected) {
+    }
+
+}
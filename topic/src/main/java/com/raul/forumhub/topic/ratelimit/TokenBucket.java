@@ -0,0 +1,71 @@
+package com.raul.forumhub.topic.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket whose whole state is a single long: the last refill time in milliseconds on the upper 40 bits and
+ * the available milli-tokens on the lower 24 bits, updated with compare-and-set.
+ */
+final class TokenBucket {
+
+    private static final int TOKEN_BITS = 24;
+
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    private static final long ONE_TOKEN = 1000;
+
+    static final int MAX_CAPACITY = (int) (TOKEN_MASK / ONE_TOKEN);
+
+    private final AtomicLong state;
+
+    private final long capacity;
+
+    private final long periodMillis;
+
+    TokenBucket(int capacity, long periodMillis, long nowMillis) {
+        this.capacity = capacity * ONE_TOKEN;
+        this.periodMillis = periodMillis;
+        this.state = new AtomicLong(pack(nowMillis, this.capacity));
+    }
+
+    /**
+     * @return zero when a token was taken, otherwise the milliseconds until the next token is available
+     */
+    long tryAcquire(long nowMillis) {
+        while (true) {
+            long current = this.state.get();
+            long tokens = this.refill(current, nowMillis);
+            if (tokens < ONE_TOKEN) {
+                return Math.max(1, ((ONE_TOKEN - tokens) * this.periodMillis + this.capacity - 1) / this.capacity);
+            }
+
+            // A full bucket restarts its refill clock; a partial one only when tokens were added, keeping the fraction
+            long refilledAt = tokens == this.capacity || tokens != (current & TOKEN_MASK)
+                    ? Math.max(nowMillis, current >>> TOKEN_BITS) : current >>> TOKEN_BITS;
+            if (this.state.compareAndSet(current, pack(refilledAt, tokens - ONE_TOKEN))) {
+                return 0;
+            }
+        }
+    }
+
+    boolean isFull(long nowMillis) {
+        return this.refill(this.state.get(), nowMillis) == this.capacity;
+    }
+
+    private long refill(long current, long nowMillis) {
+        long tokens = current & TOKEN_MASK;
+        long elapsed = nowMillis - (current >>> TOKEN_BITS);
+        if (elapsed <= 0) {
+            return tokens;
+        }
+        if (elapsed >= this.periodMillis) {
+            return this.capacity;
+        }
+        return Math.min(this.capacity, tokens + elapsed * this.capacity / this.periodMillis);
+    }
+
+    private static long pack(long millis, long tokens) {
+        return (millis << TOKEN_BITS) | tokens;
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.raul.forumhub.topic.repository;
+
+import com.raul.forumhub.topic.dto.response.AnswerIngestionDTO;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class AnswerIngestionRepository {
+
+    private static final String INSERT = "INSERT INTO answer_ingestion (ingestion_id, user_id, status, answer_id, detail, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String FIND = "SELECT status, answer_id, detail FROM answer_ingestion " +
+            "WHERE ingestion_id = ? AND user_id = ?";
+
+    private static final String DELETE_EXPIRED = "DELETE FROM answer_ingestion WHERE updated_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnswerIngestionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<AnswerIngestionDTO> find(String ingestion_id, Long user_id) {
+        return this.jdbcTemplate.query(FIND, (rs, rowNum) -> new AnswerIngestionDTO(ingestion_id,
+                AnswerIngestionDTO.Status.valueOf(rs.getString("status")), rs.getObject("answer_id", Long.class),
+                rs.getString("detail")), ingestion_id, user_id).stream().findFirst();
+    }
+
+    /**
+     * Records finished ingestions; {@code user_ids} holds the owner of each ingestion at the same position.
+     */
+    public void complete(List<AnswerIngestionDTO> ingestions, List<Long> user_ids) {
+        Timestamp now = Timestamp.from(Instant.now());
+        this.jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AnswerIngestionDTO ingestion = ingestions.get(i);
+                ps.setString(1, ingestion.ingestion_id());
+                ps.setLong(2, user_ids.get(i));
+                ps.setString(3, ingestion.status().name());
+                ps.setObject(4, ingestion.answer_id(), Types.BIGINT);
+                ps.setString(5, ingestion.detail());
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ingestions.size();
+            }
+        });
+    }
+
+    public int deleteExpired(Instant before) {
+        return this.jdbcTemplate.update(DELETE_EXPIRED, Timestamp.from(before));
+    }
+
+}
@@ -1,10 +1,54 @@
 package com.raul.forumhub.topic.repository;
 
 import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.response.AnswerActivityRow;
+import com.raul.forumhub.topic.dto.response.AnswerExportRow;
+import com.raul.forumhub.topic.dto.response.UserActivityDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Answer a WHERE a.topic.id IN :topicIds")
+    int deleteByTopicIds(@Param("topicIds") Collection<Long> topicIds);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new com.raul.forumhub.topic.dto.response.AnswerExportRow(a.id, a.topic.id, a.solution, a.bestAnswer, " +
+            "a.createdAt, a.author.id) FROM Answer a " +
+            "WHERE (:courseId IS NULL OR a.topic.course.id = :courseId) AND (:status IS NULL OR a.topic.status = :status) " +
+            "AND (CAST(:from AS LocalDateTime) IS NULL OR a.createdAt >= :from) " +
+            "AND (CAST(:to AS LocalDateTime) IS NULL OR a.createdAt < :to) ORDER BY a.id")
+    Stream<AnswerExportRow> streamForExport(@Param("courseId") Long courseId, @Param("status") Status status,
+                                            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new com.raul.forumhub.topic.dto.response.AnswerActivityRow(a.topic.id, a.topic.course.id, " +
+            "a.createdAt, a.bestAnswer) FROM Answer a WHERE a.createdAt >= :since")
+    Stream<AnswerActivityRow> streamActivitySince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT new com.raul.forumhub.topic.dto.response.UserActivityDTO('ANSWER', a.id, a.topic.id, a.solution, " +
+            "a.createdAt) FROM Answer a WHERE a.author.id = :userId " +
+            "AND (a.createdAt < :beforeCreatedAt OR (a.createdAt = :beforeCreatedAt AND a.id < :beforeId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<UserActivityDTO> findActivityByAuthor(@Param("userId") Long userId,
+                                               @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                               @Param("beforeId") Long beforeId, Pageable pageable);
+
 }
@@ -0,0 +1,87 @@
+package com.raul.forumhub.topic.repository;
+
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Topic;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Multi-row inserts through JDBC batching. Hibernate disables insert batching for
+ * {@code IDENTITY} ids, so the bulk paths write here and read the generated keys back.
+ */
+@Repository
+public class BatchInsertRepository {
+
+    private static final String INSERT_TOPIC = "INSERT INTO topic (title, question, status, created_at, user_id, course_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ANSWER = "INSERT INTO answer (topic_id, solution, best_answer, created_at, user_id) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BatchInsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> insertTopics(List<Topic> topics) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        this.jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_TOPIC, new String[]{"topic_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Topic topic = topics.get(i);
+                        ps.setString(1, topic.getTitle());
+                        ps.setString(2, topic.getQuestion());
+                        ps.setString(3, topic.getStatus().name());
+                        ps.setObject(4, topic.getCreatedAt());
+                        ps.setLong(5, topic.getAuthor().getId());
+                        ps.setLong(6, topic.getCourse().getId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return topics.size();
+                    }
+                }, keyHolder);
+
+        return generatedIds(keyHolder, "topic_id");
+    }
+
+    public List<Long> insertAnswers(List<Answer> answers) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        this.jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_ANSWER, new String[]{"answer_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Answer answer = answers.get(i);
+                        ps.setLong(1, answer.getTopic().getId());
+                        ps.setString(2, answer.getSolution());
+                        ps.setBoolean(3, answer.isBestAnswer());
+                        ps.setObject(4, answer.getCreatedAt());
+                        ps.setLong(5, answer.getAuthor().getId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return answers.size();
+                    }
+                }, keyHolder);
+
+        return generatedIds(keyHolder, "answer_id");
+    }
+
+    private static List<Long> generatedIds(KeyHolder keyHolder, String column) {
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get(column)).longValue())
+                .toList();
+    }
+
+}
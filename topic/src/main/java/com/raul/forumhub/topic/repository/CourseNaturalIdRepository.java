@@ -0,0 +1,11 @@
+package com.raul.forumhub.topic.repository;
+
+import com.raul.forumhub.topic.domain.Course;
+
+import java.util.Optional;
+
+public interface CourseNaturalIdRepository {
+
+    Optional<Course> findCourseByName(String courseName);
+
+}
@@ -0,0 +1,24 @@
+package com.raul.forumhub.topic.repository;
+
+import com.raul.forumhub.topic.domain.Course;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class CourseNaturalIdRepositoryImpl implements CourseNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Course> findCourseByName(String courseName) {
+        return this.entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Course.class)
+                .loadOptional(courseName);
+    }
+
+}
@@ -4,11 +4,6 @@ import com.raul.forumhub.topic.domain.Course;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
-
-    Optional<Course> findCourseByName(String courseName);
-
+public interface CourseRepository extends JpaRepository<Course, Long>, CourseNaturalIdRepository {
 }
@@ -0,0 +1,80 @@
+package com.raul.forumhub.topic.repository;
+
+import com.raul.forumhub.topic.idempotency.StoredResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public class IdempotencyKeyRepository {
+
+    private static final String CLAIM = "INSERT INTO idempotency_key (user_id, idempotency_key, fingerprint, claimed_at, expires_at) " +
+            "VALUES (?, ?, ?, ?, ?) ON CONFLICT (user_id, idempotency_key) DO UPDATE SET fingerprint = EXCLUDED.fingerprint, " +
+            "status = NULL, content_type = NULL, body = NULL, claimed_at = EXCLUDED.claimed_at, expires_at = EXCLUDED.expires_at " +
+            "WHERE idempotency_key.expires_at < EXCLUDED.claimed_at " +
+            "OR (idempotency_key.status IS NULL AND idempotency_key.claimed_at < ?)";
+
+    private static final String FIND = "SELECT fingerprint, status, content_type, body FROM idempotency_key " +
+            "WHERE user_id = ? AND idempotency_key = ?";
+
+    private static final String COMPLETE = "UPDATE idempotency_key SET status = ?, content_type = ?, body = ? " +
+            "WHERE user_id = ? AND idempotency_key = ? AND claimed_at = ?";
+
+    private static final String RELEASE = "DELETE FROM idempotency_key " +
+            "WHERE user_id = ? AND idempotency_key = ? AND claimed_at = ? AND status IS NULL";
+
+    private static final String DELETE_EXPIRED = "DELETE FROM idempotency_key WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Claims the key for {@code claimedAt}. An expired key, or a claim still in progress whose lease ended before
+     * {@code leaseCutoff} (its instance died before completing or releasing it), is taken over.
+     *
+     * @return whether this call now owns the key
+     */
+    public boolean claim(Long user_id, String key, String fingerprint, Instant claimedAt, Instant expiresAt,
+                         Instant leaseCutoff) {
+        return this.jdbcTemplate.update(CLAIM, user_id, key, fingerprint, Timestamp.from(claimedAt),
+                Timestamp.from(expiresAt), Timestamp.from(leaseCutoff)) == 1;
+    }
+
+    /**
+     * @return the stored response, or a response with status {@code -1} and no body while the key is still in progress
+     */
+    public Optional<StoredResponse> find(Long user_id, String key) {
+        return this.jdbcTemplate.query(FIND, (rs, rowNum) -> {
+            int status = rs.getInt("status");
+            if (rs.wasNull()) {
+                status = -1;
+            }
+            return new StoredResponse(rs.getString("fingerprint"), status, rs.getString("content_type"),
+                    rs.getBytes("body"));
+        }, user_id, key).stream().findFirst();
+    }
+
+    /**
+     * Stores the response only while {@code claimedAt} still owns the key, so a request whose lease was taken over
+     * cannot overwrite the response of the request that took it.
+     */
+    public void complete(Long user_id, String key, Instant claimedAt, StoredResponse response) {
+        this.jdbcTemplate.update(COMPLETE, response.status(), response.contentType(), response.body(), user_id, key,
+                Timestamp.from(claimedAt));
+    }
+
+    public void release(Long user_id, String key, Instant claimedAt) {
+        this.jdbcTemplate.update(RELEASE, user_id, key, Timestamp.from(claimedAt));
+    }
+
+    public int deleteExpired(Instant now) {
+        return this.jdbcTemplate.update(DELETE_EXPIRED, Timestamp.from(now));
+    }
+
+}
@@ -1,10 +1,108 @@
 package com.raul.forumhub.topic.repository;
 
+import com.raul.forumhub.topic.domain.Course;
+import com.raul.forumhub.topic.domain.Status;
 import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.response.TopicCourseRow;
+import com.raul.forumhub.topic.dto.response.TopicExportRow;
+import com.raul.forumhub.topic.dto.response.UnansweredTopicDTO;
+import com.raul.forumhub.topic.dto.response.UserActivityDTO;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface TopicRepository extends JpaRepository<Topic, Long> {
 
+    Page<Topic> findByCreatedAtGreaterThanEqualAndCreatedAtLessThan(LocalDateTime from, LocalDateTime to,
+                                                                   Pageable pageable);
+
+    /**
+     * Locks the topic row for update so that answers inserted under {@link #lockCourseIdsByIds} either commit
+     * before the delete removes them or find the topic gone.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.author.id FROM Topic t WHERE t.id = :id")
+    Optional<Long> lockAuthorIdById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Topic t WHERE t.id IN :ids ORDER BY t.id")
+    List<Long> lockIdsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Share-locks the topics until commit. Answers have no foreign key to the partitioned topic table, so every
+     * path that inserts answers takes this lock in the insert transaction to keep a concurrent delete out.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT new com.raul.forumhub.topic.dto.response.TopicCourseRow(t.id, t.course.id) FROM Topic t " +
+            "WHERE t.id IN :ids ORDER BY t.id")
+    List<TopicCourseRow> lockCourseIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.raul.forumhub.topic.dto.response.TopicCourseRow(t.id, t.course.id) FROM Topic t " +
+            "WHERE t.id IN :ids ORDER BY t.id")
+    List<TopicCourseRow> findCourseIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.id FROM Topic t WHERE (:courseId IS NULL OR t.course.id = :courseId) " +
+            "AND (:status IS NULL OR t.status = :status) AND t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsByFilter(@Param("courseId") Long courseId, @Param("status") Status status,
+                               @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.raul.forumhub.topic.dto.response.UnansweredTopicDTO(t.id, t.title, t.question, " +
+            "t.createdAt, t.author.id, t.course.id) FROM Topic t WHERE t.course.id = :courseId " +
+            "AND t.status = com.raul.forumhub.topic.domain.Status.UNSOLVED AND t.answerCount = 0 " +
+            "AND (t.createdAt > :afterCreatedAt OR (t.createdAt = :afterCreatedAt AND t.id > :afterId)) " +
+            "ORDER BY t.createdAt, t.id")
+    List<UnansweredTopicDTO> findUnansweredByCourse(@Param("courseId") Long courseId,
+                                                    @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                    @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.raul.forumhub.topic.dto.response.UserActivityDTO('TOPIC', t.id, t.id, t.title, t.createdAt) " +
+            "FROM Topic t WHERE t.author.id = :userId " +
+            "AND (t.createdAt < :beforeCreatedAt OR (t.createdAt = :beforeCreatedAt AND t.id < :beforeId)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<UserActivityDTO> findActivityByAuthor(@Param("userId") Long userId,
+                                               @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                               @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new com.raul.forumhub.topic.dto.response.TopicExportRow(t.id, t.title, t.question, t.status, " +
+            "t.createdAt, t.author.id, t.course.id) FROM Topic t " +
+            "WHERE (:courseId IS NULL OR t.course.id = :courseId) AND (:status IS NULL OR t.status = :status) " +
+            "AND (CAST(:from AS LocalDateTime) IS NULL OR t.createdAt >= :from) " +
+            "AND (CAST(:to AS LocalDateTime) IS NULL OR t.createdAt < :to) ORDER BY t.id")
+    Stream<TopicExportRow> streamForExport(@Param("courseId") Long courseId, @Param("status") Status status,
+                                           @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Topic t SET t.status = :status WHERE t.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") Status status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Topic t SET t.course = :course WHERE t.id IN :ids")
+    int updateCourseByIds(@Param("ids") Collection<Long> ids, @Param("course") Course course);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Topic t SET t.answerCount = t.answerCount + :delta WHERE t.id = :id")
+    int adjustAnswerCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Topic t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
 }
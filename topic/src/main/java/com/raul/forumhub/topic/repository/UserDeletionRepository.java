@@ -0,0 +1,64 @@
+package com.raul.forumhub.topic.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Consumer side of the {@code user_deletion} outbox written by the user service. Content is moved to the
+ * tombstone author with set-based updates limited to one chunk per statement; archived partitions, which keep
+ * their foreign key to {@code users} after being detached, are moved in a single call.
+ */
+@Repository
+public class UserDeletionRepository {
+
+    private static final String FIND_PENDING = "SELECT user_id FROM user_deletion " +
+            "WHERE reassigned_at IS NULL AND completed_at IS NULL ORDER BY requested_at LIMIT ?";
+
+    private static final String FIND_TOMBSTONE = "SELECT user_id FROM users WHERE tombstone = TRUE";
+
+    private static final String REASSIGN_TOPICS = "UPDATE topic SET user_id = ? " +
+            "WHERE topic_id IN (SELECT topic_id FROM topic WHERE user_id = ? LIMIT ?)";
+
+    private static final String REASSIGN_ANSWERS = "UPDATE answer SET user_id = ? " +
+            "WHERE answer_id IN (SELECT answer_id FROM answer WHERE user_id = ? LIMIT ?)";
+
+    private static final String REASSIGN_ARCHIVED = "SELECT reassign_archived_content(?, ?)";
+
+    private static final String MARK_REASSIGNED = "UPDATE user_deletion SET reassigned_at = CURRENT_TIMESTAMP " +
+            "WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserDeletionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> findPendingUserIds(int limit) {
+        return this.jdbcTemplate.queryForList(FIND_PENDING, Long.class, limit);
+    }
+
+    public Optional<Long> findTombstoneId() {
+        return this.jdbcTemplate.queryForList(FIND_TOMBSTONE, Long.class).stream().findFirst();
+    }
+
+    public int reassignTopics(Long user_id, Long tombstone_id, int chunkSize) {
+        return this.jdbcTemplate.update(REASSIGN_TOPICS, tombstone_id, user_id, chunkSize);
+    }
+
+    public int reassignAnswers(Long user_id, Long tombstone_id, int chunkSize) {
+        return this.jdbcTemplate.update(REASSIGN_ANSWERS, tombstone_id, user_id, chunkSize);
+    }
+
+    public int reassignArchived(Long user_id, Long tombstone_id) {
+        Integer reassigned = this.jdbcTemplate.queryForObject(REASSIGN_ARCHIVED, Integer.class, user_id, tombstone_id);
+        return reassigned == null ? 0 : reassigned;
+    }
+
+    public int markReassigned(Long user_id) {
+        return this.jdbcTemplate.update(MARK_REASSIGNED, user_id);
+    }
+
+}
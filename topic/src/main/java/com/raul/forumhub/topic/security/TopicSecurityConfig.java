@@ -1,5 +1,11 @@
 package com.raul.forumhub.topic.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.idempotency.IdempotencyFilter;
+import com.raul.forumhub.topic.idempotency.IdempotencyStore;
+import com.raul.forumhub.topic.ratelimit.RateLimitFilter;
+import com.raul.forumhub.topic.ratelimit.RateLimiter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -11,6 +17,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 
 import java.util.Collection;
@@ -22,7 +29,15 @@ import java.util.Objects;
 public class TopicSecurityConfig {
 
     @Bean
-    public SecurityFilterChain topicSecurityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain topicSecurityFilterChain(HttpSecurity http, ObjectProvider<IdempotencyStore> idempotencyStore,
+                                                        ObjectProvider<RateLimiter> rateLimiter,
+                                                        ObjectMapper objectMapper) throws Exception {
+        // Same order slot, kept in registration order: replayed retries never spend rate limit tokens
+        idempotencyStore.ifAvailable(store -> http.addFilterAfter(
+                new IdempotencyFilter(store, objectMapper), BearerTokenAuthenticationFilter.class));
+        rateLimiter.ifAvailable(limiter ->
+                http.addFilterAfter(new RateLimitFilter(limiter, objectMapper), BearerTokenAuthenticationFilter.class));
+
         return http.authorizeHttpRequests((authorize) -> authorize
                         .anyRequest().permitAll())
                 .csrf(AbstractHttpConfigurer::disable)
@@ -7,12 +7,18 @@ import com.raul.forumhub.topic.domain.Status;
 import com.raul.forumhub.topic.domain.Topic;
 import com.raul.forumhub.topic.dto.request.AnswerTopicDTO;
 import com.raul.forumhub.topic.dto.request.AnswerUpdateDTO;
+import com.raul.forumhub.topic.dto.response.AnswerSummaryDTO;
 import com.raul.forumhub.topic.dto.response.GetAnswerDTO;
+import com.raul.forumhub.topic.dto.response.TopicCourseRow;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.event.TopicStreamEvent;
 import com.raul.forumhub.topic.exception.AnswerServiceException;
 import com.raul.forumhub.topic.exception.InstanceNotFoundException;
 import com.raul.forumhub.topic.repository.AnswerRepository;
 import com.raul.forumhub.topic.util.PermissionUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Objects;
 import java.util.Set;
@@ -27,28 +33,56 @@ public class AnswerService {
 
     private final UserClientRequest userClientRequest;
 
-    public AnswerService(AnswerRepository answerRepository, TopicService topicService, UserClientRequest userClientRequest) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public AnswerService(AnswerRepository answerRepository, TopicService topicService, UserClientRequest userClientRequest,
+                         ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate) {
         this.answerRepository = answerRepository;
         this.topicService = topicService;
         this.userClientRequest = userClientRequest;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public void answerTopic(Long topic_id, Long user_id, AnswerTopicDTO answerTopicDTO) {
-        Topic topic = topicService.getTopicById(topic_id);
         Author author = userClientRequest.getUserById(user_id);
 
         Answer answer = new Answer(answerTopicDTO.solution());
-        answer.setTopic(topic);
         answer.setAuthor(author);
 
-        answerRepository.save(answer);
+        TopicCourseRow topic = Objects.requireNonNull(this.transactionTemplate.execute(status -> {
+            TopicCourseRow answered = topicService.lockTopicForAnswers(topic_id);
+            answer.setTopic(topicService.getTopicReference(topic_id));
+            answerRepository.save(answer);
+            this.topicService.adjustAnswerCount(topic_id, 1);
+            return answered;
+        }));
+
+        this.eventPublisher.publishEvent(new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_CREATED,
+                topic.topic_id(), topic.course_id(), author.getId()));
+        this.eventPublisher.publishEvent(new TopicStreamEvent(TopicStreamEvent.Type.ANSWER_CREATED,
+                topic.topic_id(), new AnswerSummaryDTO(answer)));
     }
 
 
     public void markBestAnswer(Long topic_id, Long answer_id, Long user_id) {
-        Topic topic = topicService.getTopicById(topic_id);
         Author author = userClientRequest.getUserById(user_id);
 
+        Answer answer = this.transactionTemplate.execute(status -> this.selectBestAnswer(topic_id, answer_id, author));
+        Topic topic = answer.getTopic();
+
+        this.eventPublisher.publishEvent(new TopicActivityEvent(TopicActivityEvent.Type.BEST_ANSWER_MARKED,
+                topic.getId(), topic.getCourse().getId(), author.getId()));
+        this.eventPublisher.publishEvent(new TopicStreamEvent(TopicStreamEvent.Type.BEST_ANSWER_MARKED,
+                topic.getId(), new AnswerSummaryDTO(answer)));
+
+    }
+
+    private Answer selectBestAnswer(Long topic_id, Long answer_id, Author author) {
+        Topic topic = topicService.getTopicById(topic_id);
+
         PermissionUtils.validateTopicOwner(topic.getAuthor().getId(), author.getId());
 
         Set<Answer> answersOfTheTopic = topic.getAnswers()
@@ -77,40 +111,54 @@ public class AnswerService {
 
         this.topicService.saveTopic(topic);
         this.saveAnswer(answer);
-
-
+        return answer;
     }
 
     public GetAnswerDTO updateAnswer(Long topic_id, Long answer_id, Long user_id, AnswerUpdateDTO answerUpdateDTO) {
-        this.topicService.getTopicById(topic_id);
-        Answer answer = this.getAnswerById(answer_id);
         Author author = this.userClientRequest.getUserById(user_id);
 
-        PermissionUtils.privilegeValidator(answer.getAuthor().getId(), author);
+        Answer answer = this.transactionTemplate.execute(status -> {
+            this.topicService.getTopicById(topic_id);
+            Answer current = this.getAnswerById(answer_id);
 
-        if (answer.getAuthor().getUsername().equals("Desconhecido") &&
-                answer.getAuthor().getEmail().equals("desconhecido@email.com")) {
-            throw new AnswerServiceException("A resposta pertence a um autor inexistente, " +
-                    "ele não pode ser editado");
-        }
+            PermissionUtils.privilegeValidator(current.getAuthor().getId(), author);
 
-        answer.setSolution(answerUpdateDTO.solution());
-        this.answerRepository.save(answer);
+            if (current.getAuthor().isTombstone()) {
+                throw new AnswerServiceException("A resposta pertence a um autor inexistente, " +
+                        "ele não pode ser editado");
+            }
 
+            current.setSolution(answerUpdateDTO.solution());
+            this.answerRepository.save(current);
+            return current;
+        });
+
+        this.eventPublisher.publishEvent(new TopicStreamEvent(TopicStreamEvent.Type.ANSWER_UPDATED,
+                topic_id, new AnswerSummaryDTO(answer)));
         return new GetAnswerDTO(answer);
     }
 
     public void deleteAnswer(Long topic_id, Long answer_id, Long user_id) {
-        Answer answer = this.getAnswerById(answer_id);
         Author author = this.userClientRequest.getUserById(user_id);
 
-        if (!answer.getTopic().getId().equals(topic_id)) {
-            throw new AnswerServiceException("A resposta fornecida não pertence a esse tópico");
-        }
+        Answer answer = this.transactionTemplate.execute(status -> {
+            Answer deleted = this.getAnswerById(answer_id);
+
+            if (!deleted.getTopic().getId().equals(topic_id)) {
+                throw new AnswerServiceException("A resposta fornecida não pertence a esse tópico");
+            }
+
+            PermissionUtils.privilegeValidator(deleted.getAuthor().getId(), author);
 
-        PermissionUtils.privilegeValidator(answer.getAuthor().getId(), author);
+            this.answerRepository.delete(deleted);
+            this.topicService.adjustAnswerCount(topic_id, -1);
+            return deleted;
+        });
 
-        this.answerRepository.delete(answer);
+        this.eventPublisher.publishEvent(new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_DELETED,
+                topic_id, null, author.getId()));
+        this.eventPublisher.publishEvent(new TopicStreamEvent(TopicStreamEvent.Type.ANSWER_DELETED,
+                topic_id, new AnswerSummaryDTO(answer)));
 
     }
 
@@ -0,0 +1,257 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.domain.Course;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.request.AnswerBulkCreateDTO;
+import com.raul.forumhub.topic.dto.request.TopicBulkCreateDTO;
+import com.raul.forumhub.topic.dto.response.BulkItemResult;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.exception.InstanceNotFoundException;
+import com.raul.forumhub.topic.repository.AuthorRepository;
+import com.raul.forumhub.topic.repository.BatchInsertRepository;
+import com.raul.forumhub.topic.repository.CourseRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class BulkIngestionService {
+
+    private final BatchInsertRepository batchInsertRepository;
+
+    private final AuthorRepository authorRepository;
+
+    private final CourseRepository courseRepository;
+
+    private final TopicRepository topicRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Validator validator;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int chunkSize;
+
+    public BulkIngestionService(BatchInsertRepository batchInsertRepository, AuthorRepository authorRepository,
+                                CourseRepository courseRepository, TopicRepository topicRepository,
+                                TransactionTemplate transactionTemplate, Validator validator,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${forumhub.bulk.chunk-size:500}") int chunkSize) {
+        this.batchInsertRepository = batchInsertRepository;
+        this.authorRepository = authorRepository;
+        this.courseRepository = courseRepository;
+        this.topicRepository = topicRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<BulkItemResult> createTopics(Iterator<TopicBulkCreateDTO> items, Long user_id) {
+        List<BulkItemResult> results = new ArrayList<>();
+        ChunkReader<TopicBulkCreateDTO> reader = new ChunkReader<>(items, this.chunkSize);
+
+        for (List<TopicBulkCreateDTO> chunk = reader.next(); !chunk.isEmpty(); chunk = reader.next()) {
+            results.addAll(this.createTopicChunk(chunk, results.size(), user_id));
+        }
+        reader.malformedItem().ifPresent(results::add);
+
+        return results;
+    }
+
+    public List<BulkItemResult> answerTopic(Long topic_id, Iterator<AnswerBulkCreateDTO> items, Long user_id) {
+        if (!this.topicRepository.existsById(topic_id)) {
+            throw new InstanceNotFoundException("O tópico informado não existe");
+        }
+
+        List<BulkItemResult> results = new ArrayList<>();
+        ChunkReader<AnswerBulkCreateDTO> reader = new ChunkReader<>(items, this.chunkSize);
+
+        for (List<AnswerBulkCreateDTO> chunk = reader.next(); !chunk.isEmpty(); chunk = reader.next()) {
+            results.addAll(this.answerChunk(topic_id, chunk, results.size(), user_id));
+        }
+        reader.malformedItem().ifPresent(results::add);
+
+        return results;
+    }
+
+    private List<BulkItemResult> createTopicChunk(List<TopicBulkCreateDTO> chunk, int offset, Long user_id) {
+        Map<Long, Author> authors = this.findAuthors(chunk.stream()
+                .map(dto -> Objects.requireNonNullElse(dto.user_id(), user_id)));
+        Map<Long, Course> courses = this.courseRepository.findAllById(chunk.stream()
+                        .map(TopicBulkCreateDTO::course_id).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Course::getId, Function.identity()));
+
+        BulkItemResult[] chunkResults = new BulkItemResult[chunk.size()];
+        List<Topic> topics = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            TopicBulkCreateDTO dto = chunk.get(i);
+            Optional<String> violation = this.firstViolation(dto);
+            Author author = authors.get(Objects.requireNonNullElse(dto.user_id(), user_id));
+            Course course = courses.get(dto.course_id());
+
+            if (violation.isPresent()) {
+                chunkResults[i] = rejected(offset + i, HttpStatus.BAD_REQUEST, violation.get());
+            } else if (author == null) {
+                chunkResults[i] = rejected(offset + i, HttpStatus.NOT_FOUND, "Usuário não encontrado");
+            } else if (course == null) {
+                chunkResults[i] = rejected(offset + i, HttpStatus.NOT_FOUND, "O curso informado não existe");
+            } else {
+                topics.add(new Topic(dto.title(), dto.question(), author, course));
+                positions.add(i);
+            }
+        }
+
+        List<Long> ids = this.write(() -> this.batchInsertRepository.insertTopics(topics), positions, offset, chunkResults);
+        for (int j = 0; j < ids.size(); j++) {
+            Topic topic = topics.get(j);
+            this.eventPublisher.publishEvent(new TopicActivityEvent(TopicActivityEvent.Type.TOPIC_CREATED,
+                    ids.get(j), topic.getCourse().getId(), topic.getAuthor().getId()));
+        }
+        return Arrays.asList(chunkResults);
+    }
+
+    private List<BulkItemResult> answerChunk(Long topic_id, List<AnswerBulkCreateDTO> chunk, int offset, Long user_id) {
+        Map<Long, Author> authors = this.findAuthors(chunk.stream()
+                .map(dto -> Objects.requireNonNullElse(dto.user_id(), user_id)));
+        Topic topic = Topic.builder().id(topic_id).build();
+
+        BulkItemResult[] chunkResults = new BulkItemResult[chunk.size()];
+        List<Answer> answers = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            AnswerBulkCreateDTO dto = chunk.get(i);
+            Optional<String> violation = this.firstViolation(dto);
+            Author author = authors.get(Objects.requireNonNullElse(dto.user_id(), user_id));
+
+            if (violation.isPresent()) {
+                chunkResults[i] = rejected(offset + i, HttpStatus.BAD_REQUEST, violation.get());
+            } else if (author == null) {
+                chunkResults[i] = rejected(offset + i, HttpStatus.NOT_FOUND, "Usuário não encontrado");
+            } else {
+                Answer answer = new Answer(dto.solution());
+                answer.setTopic(topic);
+                answer.setAuthor(author);
+                answers.add(answer);
+                positions.add(i);
+            }
+        }
+
+        List<Long> ids = this.write(() -> {
+            if (this.topicRepository.lockCourseIdsByIds(List.of(topic_id)).isEmpty()) {
+                throw new InstanceNotFoundException("O tópico informado não existe");
+            }
+            List<Long> inserted = this.batchInsertRepository.insertAnswers(answers);
+            this.topicRepository.adjustAnswerCount(topic_id, inserted.size());
+            return inserted;
+        }, positions, offset, chunkResults);
+        for (int j = 0; j < ids.size(); j++) {
+            this.eventPublisher.publishEvent(new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_CREATED,
+                    topic_id, null, answers.get(j).getAuthor().getId()));
+        }
+        return Arrays.asList(chunkResults);
+    }
+
+    private List<Long> write(BatchWrite batchWrite, List<Integer> positions, int offset, BulkItemResult[] chunkResults) {
+        if (positions.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            List<Long> ids = this.transactionTemplate.execute(status -> batchWrite.insert());
+            for (int j = 0; j < positions.size(); j++) {
+                int position = positions.get(j);
+                chunkResults[position] = new BulkItemResult(offset + position, Objects.requireNonNull(ids).get(j),
+                        HttpStatus.CREATED.value(), null);
+            }
+            return ids;
+        } catch (InstanceNotFoundException ex) {
+            positions.forEach(position -> chunkResults[position] = rejected(offset + position,
+                    HttpStatus.NOT_FOUND, ex.getMessage()));
+            return List.of();
+        } catch (DataAccessException ex) {
+            log.warn("Bulk ingestion ==> Falha ao gravar o lote iniciado no item {}", offset, ex);
+            positions.forEach(position -> chunkResults[position] = rejected(offset + position,
+                    HttpStatus.CONFLICT, "Lote não processado"));
+            return List.of();
+        }
+    }
+
+    private Map<Long, Author> findAuthors(Stream<Long> ids) {
+        return this.authorRepository.findAllById(ids.filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Author::getId, Function.identity()));
+    }
+
+    private <T> Optional<String> firstViolation(T item) {
+        return this.validator.validate(item).stream().findFirst().map(ConstraintViolation::getMessage);
+    }
+
+    private static BulkItemResult rejected(int index, HttpStatus status, String detail) {
+        return new BulkItemResult(index, null, status.value(), detail);
+    }
+
+    @FunctionalInterface
+    private interface BatchWrite {
+        List<Long> insert();
+    }
+
+    private static final class ChunkReader<T> {
+
+        private final Iterator<T> items;
+
+        private final int chunkSize;
+
+        private int position;
+
+        private boolean malformed;
+
+        ChunkReader(Iterator<T> items, int chunkSize) {
+            this.items = items;
+            this.chunkSize = chunkSize;
+        }
+
+        List<T> next() {
+            List<T> chunk = new ArrayList<>(this.chunkSize);
+            try {
+                while (!this.malformed && chunk.size() < this.chunkSize && this.items.hasNext()) {
+                    T item = this.items.next();
+                    if (item == null) {
+                        this.malformed = true;
+                        break;
+                    }
+                    chunk.add(item);
+                    this.position++;
+                }
+            } catch (RuntimeException ex) {
+                this.malformed = true;
+            }
+            return chunk;
+        }
+
+        Optional<BulkItemResult> malformedItem() {
+            return this.malformed ?
+                    Optional.of(rejected(this.position, HttpStatus.BAD_REQUEST, "Solicitação com valor ilegível")) :
+                    Optional.empty();
+        }
+    }
+
+}
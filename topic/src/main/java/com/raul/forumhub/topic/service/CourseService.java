@@ -8,6 +8,7 @@ import com.raul.forumhub.topic.dto.response.GetCourseDTO;
 import com.raul.forumhub.topic.exception.InstanceNotFoundException;
 import com.raul.forumhub.topic.repository.CourseRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -27,8 +28,9 @@ public class CourseService {
         this.courseRepository.save(course);
     }
 
+    @Transactional(readOnly = true)
     public List<GetCourseCollection> getAllCourse(){
-        return List.of(new GetCourseCollection(this.courseRepository.findAll()));
+        return List.of(GetCourseCollection.of(this.courseRepository.findAll()));
     }
 
     public void deleteCourse(String courseName){
@@ -0,0 +1,148 @@
+package com.raul.forumhub.topic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.response.AnswerExportRow;
+import com.raul.forumhub.topic.dto.response.TopicExportRow;
+import com.raul.forumhub.topic.exception.TopicServiceException;
+import com.raul.forumhub.topic.repository.AnswerRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class TopicExportService {
+
+    private static final String[] TOPIC_HEADER =
+            {"topic_id", "title", "question", "status", "createdAt", "user_id", "course_id"};
+
+    private static final String[] ANSWER_HEADER =
+            {"answer_id", "topic_id", "solution", "bestAnswer", "createdAt", "user_id"};
+
+    private final TopicRepository topicRepository;
+
+    private final AnswerRepository answerRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final int flushInterval;
+
+    public TopicExportService(TopicRepository topicRepository, AnswerRepository answerRepository,
+                              PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                              @Value("${forumhub.export.flush-interval:500}") int flushInterval) {
+        this.topicRepository = topicRepository;
+        this.answerRepository = answerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.flushInterval = flushInterval;
+    }
+
+    public StreamingResponseBody export(Type type, Format format, Long course_id, Status status,
+                                        LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new TopicServiceException("A data inicial não pode ser posterior à data final");
+        }
+
+        return outputStream -> this.transactionTemplate.executeWithoutResult(transactionStatus -> {
+            try {
+                if (type == Type.ANSWERS) {
+                    try (Stream<AnswerExportRow> rows = this.answerRepository.streamForExport(course_id, status, from, to)) {
+                        this.write(rows.iterator(), format, ANSWER_HEADER, outputStream);
+                    }
+                } else {
+                    try (Stream<TopicExportRow> rows = this.topicRepository.streamForExport(course_id, status, from, to)) {
+                        this.write(rows.iterator(), format, TOPIC_HEADER, outputStream);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Export interrupted ==> {}", e.getMessage());
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void write(Iterator<?> rows, Format format, String[] header, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == Format.CSV) {
+            writer.write(String.join(",", header));
+            writer.write('\n');
+        }
+
+        long count = 0;
+        while (rows.hasNext()) {
+            Object row = rows.next();
+            if (format == Format.NDJSON) {
+                writer.write(this.objectMapper.writeValueAsString(row));
+            } else {
+                this.writeCsvLine(writer, row);
+            }
+            writer.write('\n');
+
+            if (++count % this.flushInterval == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        log.info("Export finished ==> {} rows", count);
+    }
+
+    private void writeCsvLine(Writer writer, Object row) throws IOException {
+        Object[] values;
+        if (row instanceof TopicExportRow topic) {
+            values = new Object[]{topic.topic_id(), topic.title(), topic.question(), topic.status(),
+                    topic.createdAt(), topic.user_id(), topic.course_id()};
+        } else {
+            AnswerExportRow answer = (AnswerExportRow) row;
+            values = new Object[]{answer.answer_id(), answer.topic_id(), answer.solution(), answer.bestAnswer(),
+                    answer.createdAt(), answer.user_id()};
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    public enum Type {
+        TOPICS,
+        ANSWERS
+    }
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+}
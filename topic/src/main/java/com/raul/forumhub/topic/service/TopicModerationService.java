@@ -0,0 +1,116 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.client.UserClientRequest;
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.domain.Course;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicModerationDTO;
+import com.raul.forumhub.topic.dto.response.GetModerationResultDTO;
+import com.raul.forumhub.topic.dto.response.TopicCourseRow;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.exception.TopicServiceException;
+import com.raul.forumhub.topic.repository.AnswerRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import com.raul.forumhub.topic.util.PermissionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class TopicModerationService {
+
+    private final TopicRepository topicRepository;
+
+    private final AnswerRepository answerRepository;
+
+    private final UserClientRequest userClientRequest;
+
+    private final CourseService courseService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int chunkSize;
+
+    public TopicModerationService(TopicRepository topicRepository, AnswerRepository answerRepository,
+                                  UserClientRequest userClientRequest, CourseService courseService,
+                                  TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                                  @Value("${forumhub.moderation.chunk-size:500}") int chunkSize) {
+        this.topicRepository = topicRepository;
+        this.answerRepository = answerRepository;
+        this.userClientRequest = userClientRequest;
+        this.courseService = courseService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public GetModerationResultDTO moderate(TopicModerationDTO moderation, Long user_id) {
+        Author author = this.userClientRequest.getUserById(user_id);
+        PermissionUtils.moderatorValidator(author);
+
+        Course targetCourse = null;
+        if (moderation.action() == TopicModerationDTO.Action.REASSIGN_COURSE) {
+            if (moderation.target_course_id() == null) {
+                throw new TopicServiceException("O curso de destino não pode ser nulo");
+            }
+            targetCourse = this.courseService.getCourseById(moderation.target_course_id());
+        }
+
+        int affected = 0;
+        if (moderation.topic_ids() != null && !moderation.topic_ids().isEmpty()) {
+            List<Long> ids = moderation.topic_ids().stream().filter(Objects::nonNull).distinct().toList();
+            for (int from = 0; from < ids.size(); from += this.chunkSize) {
+                affected += this.apply(moderation.action(), ids.subList(from, Math.min(from + this.chunkSize, ids.size())),
+                        targetCourse);
+            }
+        } else if (moderation.course_id() != null || moderation.status() != null) {
+            Long afterId = 0L;
+            List<Long> ids;
+            while (!(ids = this.topicRepository.findIdsByFilter(moderation.course_id(), moderation.status(),
+                    afterId, PageRequest.of(0, this.chunkSize))).isEmpty()) {
+                affected += this.apply(moderation.action(), ids, targetCourse);
+                afterId = ids.get(ids.size() - 1);
+            }
+        } else {
+            throw new TopicServiceException("Informe os tópicos ou um filtro para a moderação");
+        }
+
+        return new GetModerationResultDTO(moderation.action(), affected);
+    }
+
+    private int apply(TopicModerationDTO.Action action, List<Long> ids, Course targetCourse) {
+        Integer affected = this.transactionTemplate.execute(status -> switch (action) {
+            case CLOSE -> {
+                List<TopicCourseRow> topics = this.topicRepository.findCourseIdsByIds(ids);
+                int updated = this.topicRepository.updateStatusByIds(ids, Status.SOLVED);
+                topics.forEach(topic -> this.eventPublisher.publishEvent(TopicActivityEvent.topicUpdated(
+                        topic.topic_id(), topic.course_id(), topic.course_id(), null)));
+                yield updated;
+            }
+            case REASSIGN_COURSE -> {
+                List<TopicCourseRow> topics = this.topicRepository.findCourseIdsByIds(ids);
+                int updated = this.topicRepository.updateCourseByIds(ids, targetCourse);
+                topics.forEach(topic -> this.eventPublisher.publishEvent(TopicActivityEvent.topicUpdated(
+                        topic.topic_id(), topic.course_id(), targetCourse.getId(), null)));
+                yield updated;
+            }
+            case DELETE -> {
+                this.topicRepository.lockIdsByIds(ids);
+                this.answerRepository.deleteByTopicIds(ids);
+                int deleted = this.topicRepository.deleteByIds(ids);
+                ids.forEach(topic_id -> this.eventPublisher.publishEvent(
+                        new TopicActivityEvent(TopicActivityEvent.Type.TOPIC_DELETED, topic_id, null, null)));
+                yield deleted;
+            }
+        });
+        return Objects.requireNonNullElse(affected, 0);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.util.AdvisoryLockUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "forumhub.partition", name = "enabled", havingValue = "true")
+public class TopicPartitionService {
+
+    private static final String PARTITION_PREFIX = "topic_";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String MAINTENANCE_LOCK = "topic_partition_maintenance";
+
+    private static final String LIST_PARTITIONS = "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'topic'::regclass ORDER BY c.relname";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int monthsAhead;
+
+    private final int retentionMonths;
+
+    public TopicPartitionService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 @Value("${forumhub.partition.months-ahead:3}") int monthsAhead,
+                                 @Value("${forumhub.partition.retention-months:24}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @Scheduled(cron = "${forumhub.partition.cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        boolean maintained = AdvisoryLockUtils.runExclusively(this.jdbcTemplate, MAINTENANCE_LOCK, () -> {
+            this.createFuturePartitions();
+            this.archiveOldPartitions(LocalDate.now());
+        });
+        if (!maintained) {
+            log.info("Topic partition maintenance ==> skipped, running on another instance");
+        }
+    }
+
+    public int createFuturePartitions() {
+        Integer created = this.jdbcTemplate.queryForObject("SELECT ensure_topic_partitions(?)", Integer.class,
+                this.monthsAhead);
+        log.info("Topic partitions created ==> {}", created);
+        return created == null ? 0 : created;
+    }
+
+    public List<String> archiveOldPartitions(LocalDate today) {
+        YearMonth cutoff = YearMonth.from(today).minusMonths(this.retentionMonths);
+        List<String> archived = new ArrayList<>();
+
+        for (String partition : this.jdbcTemplate.queryForList(LIST_PARTITIONS, String.class)) {
+            YearMonth month = partitionMonth(partition);
+            if (month == null || !month.isBefore(cutoff)) {
+                continue;
+            }
+
+            Integer answers = this.transactionTemplate.execute(status ->
+                    this.jdbcTemplate.queryForObject("SELECT archive_topic_partition(?)", Integer.class, partition));
+            log.info("Topic partition archived ==> {} ({} answers)", partition, answers);
+            archived.add(partition);
+        }
+        return archived;
+    }
+
+    private static YearMonth partitionMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -7,28 +7,54 @@ import com.raul.forumhub.topic.domain.Topic;
 import com.raul.forumhub.topic.dto.request.TopicCreateDTO;
 import com.raul.forumhub.topic.dto.request.TopicUpdateDTO;
 import com.raul.forumhub.topic.dto.response.GetTopicDTO;
+import com.raul.forumhub.topic.dto.response.TopicCourseRow;
+import com.raul.forumhub.topic.dto.response.TopicSummaryDTO;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.event.TopicStreamEvent;
 import com.raul.forumhub.topic.exception.InstanceNotFoundException;
 import com.raul.forumhub.topic.exception.TopicServiceException;
+import com.raul.forumhub.topic.repository.AnswerRepository;
 import com.raul.forumhub.topic.repository.TopicRepository;
 import com.raul.forumhub.topic.util.PermissionUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 public class TopicService {
 
+    private static final LocalDateTime PERIOD_LOWER_BOUND = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final LocalDateTime PERIOD_UPPER_BOUND = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final TopicRepository topicRepository;
 
     private final UserClientRequest userClientRequest;
 
     private final CourseService courseService;
 
+    private final AnswerRepository answerRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TopicService(TopicRepository topicRepository, UserClientRequest userClientRequest, CourseService courseService) {
+
+    public TopicService(TopicRepository topicRepository, UserClientRequest userClientRequest, CourseService courseService,
+                        AnswerRepository answerRepository, TransactionTemplate transactionTemplate,
+                        ApplicationEventPublisher eventPublisher) {
         this.topicRepository = topicRepository;
         this.userClientRequest = userClientRequest;
         this.courseService = courseService;
+        this.answerRepository = answerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
     public void createTopic(TopicCreateDTO topicCreateDTO, Long user_id) {
@@ -37,50 +63,111 @@ public class TopicService {
 
         Topic topic = new Topic(topicCreateDTO.title(), topicCreateDTO.question(), author, course);
         this.saveTopic(topic);
+
+        this.eventPublisher.publishEvent(new TopicActivityEvent(TopicActivityEvent.Type.TOPIC_CREATED,
+                topic.getId(), course.getId(), author.getId()));
     }
 
+    @Transactional(readOnly = true)
     public Page<GetTopicDTO> topicList(Pageable pageable) {
         return this.topicRepository.findAll(pageable).map(GetTopicDTO::new);
     }
 
+    @Transactional(readOnly = true)
+    public Page<GetTopicDTO> topicListByPeriod(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        LocalDateTime lowerBound = from == null ? PERIOD_LOWER_BOUND : from;
+        LocalDateTime upperBound = to == null ? PERIOD_UPPER_BOUND : to;
+
+        if (lowerBound.isAfter(upperBound)) {
+            throw new TopicServiceException("A data inicial não pode ser posterior à data final");
+        }
 
+        return this.topicRepository.findByCreatedAtGreaterThanEqualAndCreatedAtLessThan(lowerBound, upperBound, pageable)
+                .map(GetTopicDTO::new);
+    }
+
+
+    @Transactional(readOnly = true)
     public Topic getTopicById(Long topic_id) {
         return topicRepository.findById(topic_id).orElseThrow(() ->
                 new InstanceNotFoundException("O tópico informado não existe"));
     }
 
 
-    public GetTopicDTO updateTopic(Long topic_id, Long user_id, TopicUpdateDTO update) {
+    /**
+     * Must run inside the transaction that inserts the answers; the topic stays share-locked until it commits.
+     */
+    public TopicCourseRow lockTopicForAnswers(Long topic_id) {
+        return this.topicRepository.lockCourseIdsByIds(List.of(topic_id)).stream().findFirst().orElseThrow(() ->
+                new InstanceNotFoundException("O tópico informado não existe"));
+    }
+
+    public Topic getTopicReference(Long topic_id) {
+        return this.topicRepository.getReferenceById(topic_id);
+    }
+
+
+    public Topic viewTopic(Long topic_id) {
         Topic topic = this.getTopicById(topic_id);
-        Course course = this.courseService.getCourseById(update.course_id());
+
+        this.eventPublisher.publishEvent(new TopicActivityEvent(TopicActivityEvent.Type.TOPIC_VIEWED,
+                topic.getId(), topic.getCourse().getId(), null));
+        return topic;
+    }
+
+
+    public GetTopicDTO updateTopic(Long topic_id, Long user_id, TopicUpdateDTO update) {
         Author author = this.userClientRequest.getUserById(user_id);
 
-        PermissionUtils.privilegeValidator(topic.getAuthor().getId(), author);
+        Topic topic = this.transactionTemplate.execute(status -> {
+            Topic current = this.getTopicById(topic_id);
+            Course course = this.courseService.getCourseById(update.course_id());
 
-        if (topic.getAuthor().getUsername().equals("Desconhecido") &&
-                topic.getAuthor().getEmail().equals("desconhecido@email.com")) {
-            throw new TopicServiceException("O tópico pertence a um autor inexistente, " +
-                    "ele não pode ser editado");
-        }
+            PermissionUtils.privilegeValidator(current.getAuthor().getId(), author);
 
-        topic.setTitle(update.title());
-        topic.setQuestion(update.question());
-        topic.setStatus(update.status());
-        topic.setCourse(course);
+            if (current.getAuthor().isTombstone()) {
+                throw new TopicServiceException("O tópico pertence a um autor inexistente, " +
+                        "ele não pode ser editado");
+            }
 
-        this.saveTopic(topic);
+            Long previousCourseId = current.getCourse().getId();
+            current.setTitle(update.title());
+            current.setQuestion(update.question());
+            current.setStatus(update.status());
+            current.setCourse(course);
+
+            this.saveTopic(current);
+            this.eventPublisher.publishEvent(TopicActivityEvent.topicUpdated(current.getId(), previousCourseId,
+                    course.getId(), author.getId()));
+            return current;
+        });
+
+        this.eventPublisher.publishEvent(new TopicStreamEvent(TopicStreamEvent.Type.TOPIC_UPDATED,
+                topic.getId(), new TopicSummaryDTO(topic)));
         return new GetTopicDTO(topic);
 
     }
 
 
     public void deleteTopic(Long topic_id, Long user_id) {
-        Topic topic = this.getTopicById(topic_id);
         Author author = this.userClientRequest.getUserById(user_id);
 
-        PermissionUtils.privilegeValidator(topic.getAuthor().getId(), author);
+        this.transactionTemplate.executeWithoutResult(status -> {
+            Long topicAuthorId = this.topicRepository.lockAuthorIdById(topic_id).orElseThrow(() ->
+                    new InstanceNotFoundException("O tópico informado não existe"));
+
+            PermissionUtils.privilegeValidator(topicAuthorId, author);
+
+            this.answerRepository.deleteByTopicIds(List.of(topic_id));
+            this.topicRepository.deleteByIds(List.of(topic_id));
+        });
+
+        this.eventPublisher.publishEvent(new TopicActivityEvent(TopicActivityEvent.Type.TOPIC_DELETED,
+                topic_id, null, author.getId()));
+    }
 
-        this.topicRepository.delete(topic);
+    public void adjustAnswerCount(Long topic_id, int delta) {
+        this.topicRepository.adjustAnswerCount(topic_id, delta);
     }
 
     public void saveTopic(Topic topic) {
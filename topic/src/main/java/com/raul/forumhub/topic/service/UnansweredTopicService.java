@@ -0,0 +1,133 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.dto.response.UnansweredTopicDTO;
+import com.raul.forumhub.topic.dto.response.UnansweredTopicsPage;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.exception.TopicServiceException;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * "Needs answer" queue: unsolved topics without answers, oldest first, paged by a (createdAt, id) keyset.
+ * The head of each course queue is kept in memory and dropped whenever an answer or topic changes it.
+ */
+@Service
+public class UnansweredTopicService {
+
+    private static final LocalDateTime QUEUE_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TopicRepository topicRepository;
+
+    private final int headSize;
+
+    private final long headTtlNanos;
+
+    private final Map<Long, Head> heads = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public UnansweredTopicService(TopicRepository topicRepository,
+                                  @Value("${forumhub.unanswered.head-size:50}") int headSize,
+                                  @Value("${forumhub.unanswered.head-ttl:30s}") Duration headTtl) {
+        this.topicRepository = topicRepository;
+        this.headSize = headSize;
+        this.headTtlNanos = headTtl.toNanos();
+    }
+
+    @Transactional(readOnly = true)
+    public UnansweredTopicsPage unansweredTopics(Long course_id, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new TopicServiceException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+
+        if (cursor == null && size <= this.headSize) {
+            List<UnansweredTopicDTO> head = this.head(course_id);
+            return page(head.subList(0, Math.min(size, head.size())), size);
+        }
+
+        Cursor after = cursor == null ? new Cursor(QUEUE_START, 0L) : Cursor.decode(cursor);
+        return page(this.topicRepository.findUnansweredByCourse(course_id, after.createdAt(), after.id(),
+                PageRequest.of(0, size)), size);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicActivity(TopicActivityEvent event) {
+        switch (event.type()) {
+            case TOPIC_CREATED, ANSWER_CREATED, ANSWER_DELETED -> this.invalidate(event.course_id());
+            case TOPIC_UPDATED -> {
+                this.invalidate(event.course_id());
+                if (event.courseChanged()) {
+                    this.invalidate(event.previous_course_id());
+                }
+            }
+            case TOPIC_DELETED -> this.invalidate(null);
+            default -> {
+            }
+        }
+    }
+
+    void invalidate(Long course_id) {
+        this.generation.incrementAndGet();
+        if (course_id == null) {
+            this.heads.clear();
+        } else {
+            this.heads.remove(course_id);
+        }
+    }
+
+    private List<UnansweredTopicDTO> head(Long course_id) {
+        Head head = this.heads.get(course_id);
+        if (head != null && head.expiresAt() - System.nanoTime() > 0) {
+            return head.topics();
+        }
+
+        long loadedAt = this.generation.get();
+        List<UnansweredTopicDTO> topics = List.copyOf(this.topicRepository.findUnansweredByCourse(course_id,
+                QUEUE_START, 0L, PageRequest.of(0, this.headSize)));
+        if (this.generation.get() == loadedAt) {
+            this.heads.put(course_id, new Head(topics, System.nanoTime() + this.headTtlNanos));
+        }
+        return topics;
+    }
+
+    private static UnansweredTopicsPage page(List<UnansweredTopicDTO> topics, int size) {
+        String next = topics.size() < size ? null : Cursor.encode(topics.get(topics.size() - 1));
+        return new UnansweredTopicsPage(topics, next);
+    }
+
+    private record Head(List<UnansweredTopicDTO> topics, long expiresAt) {
+    }
+
+    private record Cursor(LocalDateTime createdAt, Long id) {
+
+        static String encode(UnansweredTopicDTO topic) {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((topic.createdAt() + "_" + topic.id()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_");
+                return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("O cursor informado é inválido");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.dto.response.UserActivityDTO;
+import com.raul.forumhub.topic.dto.response.UserActivityPage;
+import com.raul.forumhub.topic.exception.TopicServiceException;
+import com.raul.forumhub.topic.repository.AnswerRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import com.raul.forumhub.topic.util.KWayMergeIterator;
+import com.raul.forumhub.topic.util.KeysetIterator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Recent topics and answers of a user, newest first. Each source is read through its own keyset scan over
+ * (user_id, created_at) and both are merged on the fly, so a page never reads more than {@code size + 1}
+ * rows per source.
+ */
+@Service
+public class UserActivityService {
+
+    private static final String TOPIC = "TOPIC";
+
+    private static final String ANSWER = "ANSWER";
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final Comparator<UserActivityDTO> NEWEST_FIRST = Comparator
+            .comparing(UserActivityDTO::createdAt, Comparator.reverseOrder())
+            .thenComparing(UserActivityDTO::type)
+            .thenComparing(UserActivityDTO::id, Comparator.reverseOrder());
+
+    private final TopicRepository topicRepository;
+
+    private final AnswerRepository answerRepository;
+
+    public UserActivityService(TopicRepository topicRepository, AnswerRepository answerRepository) {
+        this.topicRepository = topicRepository;
+        this.answerRepository = answerRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public UserActivityPage userActivity(Long user_id, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new TopicServiceException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+
+        Cursor after = cursor == null ? Cursor.START : Cursor.decode(cursor);
+        int chunkSize = size + 1;
+
+        Iterator<UserActivityDTO> merged = new KWayMergeIterator<>(List.of(
+                new KeysetIterator<UserActivityDTO>(last -> last == null
+                        ? this.topicRepository.findActivityByAuthor(user_id, after.createdAt(), after.boundFor(TOPIC),
+                        PageRequest.of(0, chunkSize))
+                        : this.topicRepository.findActivityByAuthor(user_id, last.createdAt(), last.id(),
+                        PageRequest.of(0, chunkSize)), chunkSize),
+                new KeysetIterator<UserActivityDTO>(last -> last == null
+                        ? this.answerRepository.findActivityByAuthor(user_id, after.createdAt(), after.boundFor(ANSWER),
+                        PageRequest.of(0, chunkSize))
+                        : this.answerRepository.findActivityByAuthor(user_id, last.createdAt(), last.id(),
+                        PageRequest.of(0, chunkSize)), chunkSize)
+        ), NEWEST_FIRST);
+
+        List<UserActivityDTO> activity = new ArrayList<>(size);
+        while (merged.hasNext() && activity.size() < size) {
+            activity.add(merged.next());
+        }
+
+        String next = merged.hasNext() ? Cursor.encode(activity.get(activity.size() - 1)) : null;
+        return new UserActivityPage(activity, next);
+    }
+
+    /**
+     * Position in the merged order. Rows sharing the cursor timestamp are resumed by id only in the source the
+     * cursor came from; sources ordered before it skip that timestamp and sources ordered after it keep it whole.
+     * {@link #START} has no source, so every source is read from its newest row.
+     */
+    private record Cursor(LocalDateTime createdAt, String type, Long id) {
+
+        static final Cursor START = new Cursor(LocalDateTime.of(9999, 12, 31, 0, 0), null, Long.MAX_VALUE);
+
+        Long boundFor(String source) {
+            if (this.type == null) {
+                return Long.MAX_VALUE;
+            }
+            int order = source.compareTo(this.type);
+            return order == 0 ? this.id : order < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+
+        static String encode(UserActivityDTO activity) {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (activity.createdAt() + "_" + activity.type() + "_" + activity.id()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_");
+                if (!parts[1].equals(TOPIC) && !parts[1].equals(ANSWER)) {
+                    throw new IllegalArgumentException(parts[1]);
+                }
+                return new Cursor(LocalDateTime.parse(parts[0]), parts[1], Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("O cursor informado é inválido");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.repository.UserDeletionRepository;
+import com.raul.forumhub.topic.util.AdvisoryLockUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "forumhub.user-deletion", name = "enabled", havingValue = "true")
+public class UserDeletionService {
+
+    private static final String DELETION_LOCK = "user_deletion_propagation";
+
+    private final UserDeletionRepository userDeletionRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int chunkSize;
+
+    private final int batchSize;
+
+    public UserDeletionService(UserDeletionRepository userDeletionRepository, TransactionTemplate transactionTemplate,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${forumhub.user-deletion.chunk-size:1000}") int chunkSize,
+                               @Value("${forumhub.user-deletion.batch-size:20}") int batchSize) {
+        this.userDeletionRepository = userDeletionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Runs on one instance at a time, like partition maintenance: two instances would contend on the same chunks
+     * and report the same deletion twice.
+     */
+    @Scheduled(fixedDelayString = "${forumhub.user-deletion.delay:30000}")
+    public void propagateDeletions() {
+        if (!AdvisoryLockUtils.runExclusively(this.jdbcTemplate, DELETION_LOCK, this::propagatePending)) {
+            log.info("User deletion ==> skipped, running on another instance");
+        }
+    }
+
+    private void propagatePending() {
+        List<Long> pending = this.userDeletionRepository.findPendingUserIds(this.batchSize);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Long tombstone_id = this.userDeletionRepository.findTombstoneId().orElse(null);
+        if (tombstone_id == null) {
+            log.warn("User deletion ==> Autor desconhecido não cadastrado, {} exclusões pendentes", pending.size());
+            return;
+        }
+
+        for (Long user_id : pending) {
+            int topics = 0;
+            int answers = 0;
+            int archived = 0;
+            if (!user_id.equals(tombstone_id)) {
+                topics = this.reassign(() -> this.userDeletionRepository.reassignTopics(user_id, tombstone_id, this.chunkSize));
+                answers = this.reassign(() -> this.userDeletionRepository.reassignAnswers(user_id, tombstone_id, this.chunkSize));
+                archived = Objects.requireNonNull(this.transactionTemplate.execute(status ->
+                        this.userDeletionRepository.reassignArchived(user_id, tombstone_id)));
+            }
+            this.transactionTemplate.executeWithoutResult(status -> this.userDeletionRepository.markReassigned(user_id));
+            log.info("User deletion propagated ==> user {} ({} topics, {} answers, {} archived)", user_id, topics,
+                    answers, archived);
+        }
+    }
+
+    private int reassign(IntSupplier chunk) {
+        int total = 0;
+        int updated;
+        do {
+            updated = Objects.requireNonNull(this.transactionTemplate.execute(status -> chunk.getAsInt()));
+            total += updated;
+        } while (updated == this.chunkSize);
+        return total;
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.raul.forumhub.topic.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.event.TopicStreamEvent;
+import com.raul.forumhub.topic.exception.InstanceNotFoundException;
+import com.raul.forumhub.topic.exception.TopicServiceException;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans topic changes out to SSE subscribers. Payloads come with the event and are serialized once per event,
+ * so publishing never reads the database. Idle connections hold no thread: writes happen on a small dispatch
+ * pool only while a subscriber has buffered events. A write blocked for longer than the send timeout gets its
+ * subscriber dropped and its thread replaced, so clients that stop reading can't starve delivery to the others.
+ */
+@Slf4j
+@Component
+public class TopicEventBroadcaster {
+
+    private final TopicRepository topicRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final TopicEventsProperties properties;
+
+    private final ThreadPoolExecutor dispatcher;
+
+    private final Map<Long, Set<TopicEventSubscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final Set<TopicEventSubscriber> stalled = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Counter droppedEvents;
+
+    private final Counter droppedSubscribers;
+
+    public TopicEventBroadcaster(TopicRepository topicRepository, ObjectMapper objectMapper,
+                                 TopicEventsProperties properties, MeterRegistry meterRegistry) {
+        this.topicRepository = topicRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.dispatcher = new ThreadPoolExecutor(properties.getDispatchThreads(), properties.getDispatchThreads(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+
+        Gauge.builder("forumhub.topic.events.subscribers", this.subscriberCount, AtomicInteger::get)
+                .description("Conexões SSE abertas").register(meterRegistry);
+        this.droppedEvents = Counter.builder("forumhub.topic.events.dropped")
+                .description("Eventos descartados por buffer cheio").register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("forumhub.topic.events.slow-subscribers")
+                .description("Conexões SSE encerradas por envio bloqueado").register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long topic_id) {
+        if (!this.topicRepository.existsById(topic_id)) {
+            throw new InstanceNotFoundException("O tópico informado não existe");
+        }
+        if (this.subscriberCount.incrementAndGet() > this.properties.getMaxSubscribers()) {
+            this.subscriberCount.decrementAndGet();
+            throw new TopicServiceException("Limite de conexões de eventos atingido, tente novamente mais tarde");
+        }
+
+        SseEmitter emitter = new SseEmitter(this.properties.getTimeout().toMillis());
+        TopicEventSubscriber subscriber = new TopicEventSubscriber(topic_id, emitter, this.properties.getBufferSize());
+        this.register(subscriber);
+
+        emitter.onCompletion(() -> this.unsubscribe(subscriber));
+        emitter.onTimeout(() -> this.unsubscribe(subscriber));
+        emitter.onError(e -> this.unsubscribe(subscriber));
+
+        subscriber.offer(SseEmitter.event().comment("connected"), this.dispatcher);
+        return emitter;
+    }
+
+    void register(TopicEventSubscriber subscriber) {
+        this.subscribers.compute(subscriber.topicId(), (id, topicSubscribers) -> {
+            Set<TopicEventSubscriber> current = topicSubscribers == null ? ConcurrentHashMap.newKeySet() : topicSubscribers;
+            current.add(subscriber);
+            return current;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicStreamEvent(TopicStreamEvent event) {
+        Set<TopicEventSubscriber> topicSubscribers = this.subscribers.get(event.topic_id());
+        if (topicSubscribers == null || topicSubscribers.isEmpty()) {
+            return;
+        }
+
+        String data;
+        try {
+            data = this.objectMapper.writeValueAsString(event.data());
+        } catch (JsonProcessingException e) {
+            log.warn("Topic event not serialized ==> {}", e.getMessage());
+            return;
+        }
+
+        String id = Long.toString(this.sequence.incrementAndGet());
+        for (TopicEventSubscriber subscriber : topicSubscribers) {
+            SseEmitter.SseEventBuilder sseEvent = SseEmitter.event().id(id).name(event.type().eventName())
+                    .data(data, MediaType.APPLICATION_JSON);
+            if (!subscriber.offer(sseEvent, this.dispatcher)) {
+                this.droppedEvents.increment();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@topicEventsProperties.heartbeatInterval.toMillis()}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        long sendTimeout = this.properties.getSendTimeout().toNanos();
+        this.subscribers.values().forEach(topicSubscribers -> topicSubscribers.forEach(subscriber -> {
+            if (subscriber.isSendingLongerThan(now, sendTimeout)) {
+                this.unsubscribe(subscriber);
+                this.stalled.add(subscriber);
+                this.droppedSubscribers.increment();
+                log.info("Slow topic event subscriber dropped ==> {}", subscriber.topicId());
+            } else if (subscriber.isClosed()) {
+                this.unsubscribe(subscriber);
+            } else {
+                subscriber.heartbeat(this.dispatcher);
+            }
+        }));
+
+        this.stalled.removeIf(subscriber -> {
+            if (subscriber.isSending()) {
+                return false;
+            }
+            subscriber.complete();
+            return true;
+        });
+        this.resizeDispatcher(this.properties.getDispatchThreads() + this.stalled.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.subscribers.values().forEach(topicSubscribers -> topicSubscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.emitter().complete();
+        }));
+        this.dispatcher.shutdown();
+    }
+
+    int dispatchThreads() {
+        return this.dispatcher.getCorePoolSize();
+    }
+
+    /**
+     * A blocked servlet write can't be interrupted, so each stalled writer gets a replacement thread until its
+     * write returns or the container times the connection out.
+     */
+    private void resizeDispatcher(int size) {
+        if (size > this.dispatcher.getMaximumPoolSize()) {
+            this.dispatcher.setMaximumPoolSize(size);
+            this.dispatcher.setCorePoolSize(size);
+        } else if (size < this.dispatcher.getCorePoolSize()) {
+            this.dispatcher.setCorePoolSize(size);
+            this.dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private void unsubscribe(TopicEventSubscriber subscriber) {
+        subscriber.close();
+        this.subscribers.computeIfPresent(subscriber.topicId(), (id, topicSubscribers) -> {
+            if (topicSubscribers.remove(subscriber)) {
+                this.subscriberCount.decrementAndGet();
+            }
+            return topicSubscribers.isEmpty() ? null : topicSubscribers;
+        });
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.raul.forumhub.topic.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One SSE connection. Events are queued in a bounded buffer that drops the oldest entry when full and are written
+ * by a single drain task at a time, so a slow client never blocks the publisher. After a drop the client is told
+ * to resync before the remaining events. The start of an in-flight write is tracked so the broadcaster can write
+ * off clients that stopped reading.
+ */
+final class TopicEventSubscriber {
+
+    private final Long topicId;
+
+    private final SseEmitter emitter;
+
+    private final int bufferSize;
+
+    private final Deque<SseEmitter.SseEventBuilder> buffer = new ArrayDeque<>();
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private boolean dropped;
+
+    private volatile boolean closed;
+
+    private volatile boolean failed;
+
+    private volatile boolean sending;
+
+    private volatile long sendStartedAt;
+
+    TopicEventSubscriber(Long topicId, SseEmitter emitter, int bufferSize) {
+        this.topicId = topicId;
+        this.emitter = emitter;
+        this.bufferSize = bufferSize;
+    }
+
+    Long topicId() {
+        return this.topicId;
+    }
+
+    SseEmitter emitter() {
+        return this.emitter;
+    }
+
+    boolean isClosed() {
+        return this.closed;
+    }
+
+    void close() {
+        this.closed = true;
+    }
+
+    void complete() {
+        if (!this.failed) {
+            this.emitter.complete();
+        }
+    }
+
+    boolean isSending() {
+        return this.sending;
+    }
+
+    boolean isSendingLongerThan(long nowNanos, long timeoutNanos) {
+        return this.sending && nowNanos - this.sendStartedAt > timeoutNanos;
+    }
+
+    /**
+     * @return {@code false} if the oldest buffered event had to be dropped
+     */
+    boolean offer(SseEmitter.SseEventBuilder event, Executor executor) {
+        boolean accepted = true;
+        synchronized (this.buffer) {
+            if (this.buffer.size() >= this.bufferSize) {
+                this.buffer.pollFirst();
+                this.dropped = true;
+                accepted = false;
+            }
+            this.buffer.addLast(event);
+        }
+        this.schedule(executor);
+        return accepted;
+    }
+
+    void heartbeat(Executor executor) {
+        synchronized (this.buffer) {
+            if (!this.buffer.isEmpty()) {
+                return;
+            }
+            this.buffer.addLast(SseEmitter.event().comment("heartbeat"));
+        }
+        this.schedule(executor);
+    }
+
+    private void schedule(Executor executor) {
+        if (!this.closed && this.draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!this.closed) {
+                SseEmitter.SseEventBuilder next;
+                boolean resync;
+                synchronized (this.buffer) {
+                    next = this.buffer.pollFirst();
+                    if (next == null) {
+                        this.draining.set(false);
+                        return;
+                    }
+                    resync = this.dropped;
+                    this.dropped = false;
+                }
+                this.sendStartedAt = System.nanoTime();
+                this.sending = true;
+                if (resync) {
+                    this.emitter.send(SseEmitter.event().name("resync").data(this.topicId));
+                }
+                this.emitter.send(next);
+                this.sending = false;
+            }
+        } catch (IOException | IllegalStateException e) {
+            this.closed = true;
+            this.failed = true;
+            this.sending = false;
+            this.emitter.completeWithError(e);
+        }
+        this.draining.set(false);
+    }
+
+}
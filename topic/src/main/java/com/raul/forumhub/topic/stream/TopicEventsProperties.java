@@ -0,0 +1,23 @@
+package com.raul.forumhub.topic.stream;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties("forumhub.events")
+@Getter
+@Setter
+public class TopicEventsProperties {
+
+    private int bufferSize = 32;
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    private Duration sendTimeout = Duration.ofSeconds(10);
+    private Duration timeout = Duration.ofMinutes(30);
+    private int maxSubscribers = 20000;
+    private int dispatchThreads = 4;
+
+}
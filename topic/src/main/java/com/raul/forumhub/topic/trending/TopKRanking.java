@@ -0,0 +1,70 @@
+package com.raul.forumhub.topic.trending;
+
+import java.util.*;
+
+/**
+ * Bounded ranking of topics ordered by log-score. Holds at most {@code capacity} candidates, evicting the lowest
+ * one on overflow, so updates cost O(log capacity) and reading the first K entries costs O(K).
+ */
+final class TopKRanking {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::logScore)
+            .thenComparing(Entry::topicId);
+
+    private final int capacity;
+
+    private final NavigableSet<Entry> ranking = new TreeSet<>(ORDER);
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    TopKRanking(int capacity) {
+        this.capacity = capacity;
+    }
+
+    synchronized void add(Long topicId, Long courseId, double logWeight) {
+        Entry current = this.entries.remove(topicId);
+        double logScore = logWeight;
+        if (current != null) {
+            this.ranking.remove(current);
+            logScore = logSumExp(current.logScore(), logWeight);
+        }
+
+        Entry updated = new Entry(topicId, courseId, logScore);
+        this.ranking.add(updated);
+        this.entries.put(topicId, updated);
+
+        if (this.ranking.size() > this.capacity) {
+            this.entries.remove(this.ranking.pollFirst().topicId());
+        }
+    }
+
+    synchronized Entry remove(Long topicId) {
+        Entry current = this.entries.remove(topicId);
+        if (current != null) {
+            this.ranking.remove(current);
+        }
+        return current;
+    }
+
+    synchronized List<Entry> top(int size) {
+        List<Entry> top = new ArrayList<>(Math.min(size, this.ranking.size()));
+        Iterator<Entry> descending = this.ranking.descendingIterator();
+        while (descending.hasNext() && top.size() < size) {
+            top.add(descending.next());
+        }
+        return top;
+    }
+
+    synchronized int size() {
+        return this.ranking.size();
+    }
+
+    private static double logSumExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    record Entry(Long topicId, Long courseId, double logScore) {
+    }
+
+}
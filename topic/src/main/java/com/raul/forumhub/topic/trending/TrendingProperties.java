@@ -0,0 +1,32 @@
+package com.raul.forumhub.topic.trending;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties("forumhub.trending")
+@Getter
+@Setter
+public class TrendingProperties {
+
+    private int size = 20;
+    private int candidates = 200;
+    private Duration halfLife = Duration.ofHours(6);
+    private Duration bootstrapWindow = Duration.ofDays(2);
+    private Weights weights = new Weights();
+
+    @Getter
+    @Setter
+    public static class Weights {
+
+        private double view = 1.0;
+        private double answer = 5.0;
+        private double bestAnswer = 3.0;
+
+    }
+
+}
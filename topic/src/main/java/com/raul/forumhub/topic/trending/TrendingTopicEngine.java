@@ -0,0 +1,135 @@
+package com.raul.forumhub.topic.trending;
+
+import com.raul.forumhub.topic.dto.response.AnswerActivityRow;
+import com.raul.forumhub.topic.dto.response.TrendingTopicDTO;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.repository.AnswerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Keeps "hot" topics in memory, globally and per course. Each activity adds {@code weight * e^(λt)} to the topic
+ * score, which is kept as a logarithm: since every score decays by the same factor, decay never reorders the
+ * ranking and only has to be applied when a score is read.
+ */
+@Slf4j
+@Component
+public class TrendingTopicEngine {
+
+    private final AnswerRepository answerRepository;
+
+    private final TrendingProperties properties;
+
+    private final double decayRate;
+
+    private final TopKRanking global;
+
+    private final Map<Long, TopKRanking> courses = new ConcurrentHashMap<>();
+
+    public TrendingTopicEngine(AnswerRepository answerRepository, TrendingProperties properties) {
+        this.answerRepository = answerRepository;
+        this.properties = properties;
+        this.decayRate = Math.log(2) / (properties.getHalfLife().toMillis() / 1000.0);
+        this.global = new TopKRanking(properties.getCandidates());
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        Instant since = Instant.now().minus(this.properties.getBootstrapWindow());
+        try (Stream<AnswerActivityRow> rows = this.answerRepository.streamActivitySince(
+                LocalDateTime.ofInstant(since, ZoneId.systemDefault()))) {
+            rows.forEach(row -> {
+                Instant at = row.createdAt().atZone(ZoneId.systemDefault()).toInstant();
+                this.record(row.topic_id(), row.course_id(), this.properties.getWeights().getAnswer(), at);
+                if (row.bestAnswer()) {
+                    this.record(row.topic_id(), row.course_id(), this.properties.getWeights().getBestAnswer(), at);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Trending bootstrap failed ==> {}", e.getMessage());
+        }
+        log.info("Trending bootstrap finished ==> {} topics", this.global.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicActivity(TopicActivityEvent event) {
+        TrendingProperties.Weights weights = this.properties.getWeights();
+        switch (event.type()) {
+            case TOPIC_VIEWED -> this.record(event.topic_id(), event.course_id(), weights.getView(), Instant.now());
+            case ANSWER_CREATED -> this.record(event.topic_id(), event.course_id(), weights.getAnswer(), Instant.now());
+            case BEST_ANSWER_MARKED ->
+                    this.record(event.topic_id(), event.course_id(), weights.getBestAnswer(), Instant.now());
+            case TOPIC_UPDATED -> {
+                if (event.courseChanged()) {
+                    this.move(event.topic_id(), event.previous_course_id(), event.course_id());
+                }
+            }
+            case TOPIC_DELETED -> this.remove(event.topic_id());
+            default -> {
+            }
+        }
+    }
+
+    public List<TrendingTopicDTO> trending(Long course_id, Integer size) {
+        int limit = size == null ? this.properties.getSize() : Math.max(0, Math.min(size, this.properties.getSize()));
+        TopKRanking ranking = course_id == null ? this.global : this.courses.get(course_id);
+        if (ranking == null) {
+            return List.of();
+        }
+
+        double now = this.decayRate * epochSeconds(Instant.now());
+        return ranking.top(limit).stream()
+                .map(entry -> new TrendingTopicDTO(entry.topicId(), entry.courseId(), Math.exp(entry.logScore() - now)))
+                .toList();
+    }
+
+    void record(Long topic_id, Long course_id, double weight, Instant at) {
+        if (topic_id == null || weight <= 0) {
+            return;
+        }
+        double logWeight = Math.log(weight) + this.decayRate * epochSeconds(at);
+
+        this.global.add(topic_id, course_id, logWeight);
+        if (course_id != null) {
+            this.courses.computeIfAbsent(course_id, id -> new TopKRanking(this.properties.getCandidates()))
+                    .add(topic_id, course_id, logWeight);
+        }
+    }
+
+    void remove(Long topic_id) {
+        this.global.remove(topic_id);
+        this.courses.values().forEach(ranking -> ranking.remove(topic_id));
+    }
+
+    void move(Long topic_id, Long previous_course_id, Long course_id) {
+        TopKRanking.Entry global = this.global.remove(topic_id);
+        if (global != null) {
+            this.global.add(topic_id, course_id, global.logScore());
+        }
+
+        TopKRanking previous = previous_course_id == null ? null : this.courses.get(previous_course_id);
+        TopKRanking.Entry entry = previous == null ? null : previous.remove(topic_id);
+        if (entry != null && course_id != null) {
+            this.courses.computeIfAbsent(course_id, id -> new TopKRanking(this.properties.getCandidates()))
+                    .add(topic_id, course_id, entry.logScore());
+        }
+    }
+
+    private static double epochSeconds(Instant instant) {
+        return instant.toEpochMilli() / 1000.0;
+    }
+
+}
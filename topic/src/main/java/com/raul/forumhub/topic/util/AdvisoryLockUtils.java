@@ -0,0 +1,46 @@
+package com.raul.forumhub.topic.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Keeps scheduled jobs on one instance at a time: the session advisory lock is held on its own connection for the
+ * whole run and is released by Postgres if the instance dies.
+ */
+@UtilityClass
+public class AdvisoryLockUtils {
+
+    /**
+     * @return {@code false} without running the task when another session holds the lock
+     */
+    public boolean runExclusively(JdbcTemplate jdbcTemplate, String lock, Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(hashtext(?))", lock)) {
+                return false;
+            }
+            try {
+                task.run();
+            } finally {
+                advisoryLock(connection, "SELECT pg_advisory_unlock(hashtext(?))", lock);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private boolean advisoryLock(Connection connection, String sql, String lock) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, lock);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+}
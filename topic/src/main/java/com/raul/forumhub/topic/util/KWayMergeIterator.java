@@ -0,0 +1,41 @@
+package com.raul.forumhub.topic.util;
+
+import java.util.*;
+
+/**
+ * Merges already sorted iterators into one sorted stream, holding only the current head of each source.
+ */
+public final class KWayMergeIterator<T> implements Iterator<T> {
+
+    private final PriorityQueue<Head<T>> heads;
+
+    public KWayMergeIterator(List<? extends Iterator<T>> sources, Comparator<? super T> order) {
+        this.heads = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) -> order.compare(a.value(), b.value()));
+        sources.forEach(source -> {
+            if (source.hasNext()) {
+                this.heads.add(new Head<>(source.next(), source));
+            }
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.heads.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        Head<T> head = this.heads.poll();
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        if (head.source().hasNext()) {
+            this.heads.add(new Head<>(head.source().next(), head.source()));
+        }
+        return head.value();
+    }
+
+    private record Head<T>(T value, Iterator<T> source) {
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.raul.forumhub.topic.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Lazily walks a keyset-paginated query. {@code fetchAfter} receives the last row already returned
+ * ({@code null} for the first chunk) and answers the next chunk, so no offset is ever scanned.
+ */
+public final class KeysetIterator<T> implements Iterator<T> {
+
+    private final Function<T, List<T>> fetchAfter;
+
+    private final int chunkSize;
+
+    private final Deque<T> buffer = new ArrayDeque<>();
+
+    private T last;
+
+    private boolean exhausted;
+
+    public KeysetIterator(Function<T, List<T>> fetchAfter, int chunkSize) {
+        this.fetchAfter = fetchAfter;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.buffer.isEmpty() && !this.exhausted) {
+            List<T> chunk = this.fetchAfter.apply(this.last);
+            this.buffer.addAll(chunk);
+            this.exhausted = chunk.size() < this.chunkSize;
+        }
+        return !this.buffer.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.last = this.buffer.poll();
+        return this.last;
+    }
+
+}
@@ -20,6 +20,14 @@ public class PermissionUtils {
         log.info("Privilege validator ==> Passou pela validação de privilégio");
     }
 
+    public void moderatorValidator(Author loggedUser) {
+        if (!(loggedUser.getProfile().getProfileName().equals(Profile.ProfileName.MOD) ||
+                loggedUser.getProfile().getProfileName().equals(Profile.ProfileName.ADM))) {
+            throw new ValidationException("Privilégio insuficiente");
+        }
+        log.info("Moderator validator ==> Passou pela validação de privilégio de moderação");
+    }
+
     public void validateTopicOwner(Long author_id, Long loggedUser) {
         if (!author_id.equals(loggedUser)) {
             throw new TopicServiceException("O tópico fornecido não pertence a esse autor");
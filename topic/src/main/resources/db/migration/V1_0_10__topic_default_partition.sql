@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS topic_default PARTITION OF topic DEFAULT;
+
+CREATE OR REPLACE FUNCTION create_topic_partition(month_start DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    lower_bound DATE := date_trunc('month', month_start)::DATE;
+    upper_bound DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'topic_' || to_char(month_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    -- Rows that landed in the default partition while this month had no partition must move before attaching it.
+    EXECUTE format('CREATE TABLE %I (LIKE topic INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM topic_default WHERE created_at >= %L AND created_at < %L RETURNING *) ' ||
+                   'INSERT INTO %I SELECT * FROM moved', lower_bound, upper_bound, partition_name);
+    EXECUTE format('ALTER TABLE topic ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, lower_bound, upper_bound);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
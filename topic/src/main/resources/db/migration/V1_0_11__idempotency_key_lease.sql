@@ -0,0 +1 @@
+ALTER TABLE idempotency_key ADD COLUMN claimed_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now();
@@ -0,0 +1,10 @@
+-- answer.topic_id stays without a foreign key. A single-column key can't reference the partitioned topic table,
+-- and a composite (topic_id, created_at) key would break create_topic_partition, which moves referenced rows out
+-- of topic_default into the new month before attaching it. Instead, every answer insert share-locks its topic in
+-- the insert transaction (SELECT ... FOR SHARE) and topic deletes lock the row FOR UPDATE before removing its
+-- answers, so a delete either waits for the insert or the insert finds the topic gone.
+-- Answers orphaned before that guard existed are archived.
+INSERT INTO archive.answer
+SELECT a.* FROM answer a WHERE NOT EXISTS (SELECT 1 FROM topic t WHERE t.topic_id = a.topic_id);
+
+DELETE FROM answer a WHERE NOT EXISTS (SELECT 1 FROM topic t WHERE t.topic_id = a.topic_id);
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS answer (
+    answer_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    topic_id BIGINT,
+    solution VARCHAR(255) NOT NULL,
+    best_answer BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP(6) WITH TIME ZONE,
+    user_id BIGINT,
+    PRIMARY KEY (answer_id),
+    CONSTRAINT FK_TOPIC_ANSWER FOREIGN KEY (topic_id) REFERENCES topic(topic_id),
+    CONSTRAINT FK_USERS_ANSWER FOREIGN KEY (user_id) REFERENCES users(user_id)
+);
+
+CREATE INDEX IF NOT EXISTS IX_ANSWER_TOPIC ON answer (topic_id);
+CREATE INDEX IF NOT EXISTS IX_TOPIC_COURSE ON topic (course_id, topic_id);
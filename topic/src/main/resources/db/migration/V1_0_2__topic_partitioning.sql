@@ -0,0 +1,97 @@
+CREATE SCHEMA IF NOT EXISTS archive;
+
+ALTER TABLE answer DROP CONSTRAINT IF EXISTS FK_TOPIC_ANSWER;
+
+DROP INDEX IF EXISTS IX_TOPIC_COURSE;
+ALTER TABLE topic RENAME TO topic_legacy;
+ALTER TABLE topic_legacy RENAME CONSTRAINT topic_pkey TO topic_legacy_pkey;
+
+CREATE SEQUENCE topic_topic_id_seq_partitioned;
+
+CREATE TABLE topic (
+    topic_id BIGINT NOT NULL DEFAULT nextval('topic_topic_id_seq_partitioned'),
+    title VARCHAR(200) NOT NULL,
+    question VARCHAR(255) NOT NULL,
+    status CHAR(10) DEFAULT 'UNSOLVED' CHECK (status IN ('SOLVED', 'UNSOLVED')),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now(),
+    user_id BIGINT,
+    course_id BIGINT,
+    PRIMARY KEY (topic_id, created_at),
+    CONSTRAINT FK_USERS_TOPIC FOREIGN KEY (user_id) REFERENCES users(user_id),
+    CONSTRAINT FK_COURSE_TOPIC FOREIGN KEY (course_id) REFERENCES course(course_id)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE topic_topic_id_seq_partitioned OWNED BY topic.topic_id;
+
+CREATE OR REPLACE FUNCTION create_topic_partition(month_start DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    lower_bound DATE := date_trunc('month', month_start)::DATE;
+    partition_name TEXT := 'topic_' || to_char(month_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF topic FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, lower_bound, (lower_bound + INTERVAL '1 month')::DATE);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ensure_topic_partitions(months_ahead INT) RETURNS INT AS $$
+DECLARE
+    month_start DATE;
+    created INT := 0;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(date_trunc('month', now()), date_trunc('month', now()) + make_interval(months => months_ahead),
+                               INTERVAL '1 month')::DATE
+    LOOP
+        IF create_topic_partition(month_start) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TABLE archive.answer (LIKE answer INCLUDING DEFAULTS);
+
+CREATE OR REPLACE FUNCTION archive_topic_partition(partition_name TEXT) RETURNS INT AS $$
+DECLARE
+    archived INT;
+BEGIN
+    EXECUTE format('INSERT INTO archive.answer SELECT a.* FROM answer a JOIN %I t ON t.topic_id = a.topic_id',
+                   partition_name);
+    GET DIAGNOSTICS archived = ROW_COUNT;
+    EXECUTE format('DELETE FROM answer a USING %I t WHERE a.topic_id = t.topic_id', partition_name);
+    EXECUTE format('ALTER TABLE topic DETACH PARTITION %I', partition_name);
+    EXECUTE format('ALTER TABLE %I SET SCHEMA archive', partition_name);
+    RETURN archived;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(date_trunc('month', COALESCE((SELECT min(created_at) FROM topic_legacy), now())),
+                               date_trunc('month', COALESCE((SELECT max(created_at) FROM topic_legacy), now())),
+                               INTERVAL '1 month')::DATE
+    LOOP
+        PERFORM create_topic_partition(month_start);
+    END LOOP;
+END $$;
+
+SELECT ensure_topic_partitions(3);
+
+INSERT INTO topic (topic_id, title, question, status, created_at, user_id, course_id)
+SELECT topic_id, title, question, status, COALESCE(created_at, now()), user_id, course_id FROM topic_legacy;
+
+SELECT setval('topic_topic_id_seq_partitioned', COALESCE((SELECT max(topic_id) FROM topic), 0) + 1, false);
+
+DROP TABLE topic_legacy;
+
+CREATE INDEX IX_TOPIC_ID ON topic (topic_id);
+CREATE INDEX IX_TOPIC_CREATED_AT ON topic (created_at);
+CREATE INDEX IX_TOPIC_COURSE ON topic (course_id, topic_id);
@@ -0,0 +1,8 @@
+ALTER TABLE topic ADD COLUMN answer_count INT NOT NULL DEFAULT 0;
+
+UPDATE topic t SET answer_count = a.total
+FROM (SELECT topic_id, count(*) AS total FROM answer GROUP BY topic_id) a
+WHERE a.topic_id = t.topic_id;
+
+CREATE INDEX IX_TOPIC_UNANSWERED ON topic (course_id, created_at, topic_id)
+    WHERE status = 'UNSOLVED' AND answer_count = 0;
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS IX_TOPIC_AUTHOR_CREATED_AT ON topic (user_id, created_at DESC, topic_id DESC);
+CREATE INDEX IF NOT EXISTS IX_ANSWER_AUTHOR_CREATED_AT ON answer (user_id, created_at DESC, answer_id DESC);
@@ -0,0 +1,20 @@
+ALTER TABLE users ADD COLUMN tombstone BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE users SET tombstone = TRUE WHERE username = 'Desconhecido';
+
+INSERT INTO users (first_name, last_name, username, email, "password", is_enabled, profile_id, tombstone)
+SELECT 'Desconhecido', 'Desconhecido', 'Desconhecido', 'desconhecido@email.com', '!', FALSE, p.profile_id, TRUE
+FROM profile p
+WHERE p.profile = 'BASIC' AND NOT EXISTS (SELECT 1 FROM users WHERE tombstone);
+
+CREATE UNIQUE INDEX UX_USERS_TOMBSTONE ON users (tombstone) WHERE tombstone;
+
+CREATE TABLE user_deletion (
+    user_id BIGINT NOT NULL,
+    requested_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now(),
+    reassigned_at TIMESTAMP(6) WITH TIME ZONE,
+    completed_at TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (user_id)
+);
+
+CREATE INDEX IX_USER_DELETION_PENDING ON user_deletion (requested_at) WHERE completed_at IS NULL;
@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS IX_USERS_USERNAME_TRGM ON users USING GIN (username gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS IX_USERS_EMAIL_TRGM ON users USING GIN (lower(email) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS IX_USERS_USERNAME_PREFIX ON users (lower(username) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS IX_USERS_EMAIL_PREFIX ON users (lower(email) text_pattern_ops);
@@ -0,0 +1,22 @@
+CREATE INDEX IF NOT EXISTS IX_ARCHIVE_ANSWER_USER ON archive.answer (user_id);
+
+CREATE OR REPLACE FUNCTION reassign_archived_content(from_user BIGINT, to_user BIGINT) RETURNS INT AS $$
+DECLARE
+    partition_name TEXT;
+    updated INT;
+    reassigned INT := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE n.nspname = 'archive' AND c.relkind = 'r' AND c.relname LIKE 'topic\_%'
+    LOOP
+        EXECUTE format('UPDATE archive.%I SET user_id = $1 WHERE user_id = $2', partition_name) USING to_user, from_user;
+        GET DIAGNOSTICS updated = ROW_COUNT;
+        reassigned := reassigned + updated;
+    END LOOP;
+
+    UPDATE archive.answer SET user_id = to_user WHERE user_id = from_user;
+    GET DIAGNOSTICS updated = ROW_COUNT;
+    RETURN reassigned + updated;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,10 @@
+CREATE TABLE answer_ingestion (
+    ingestion_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    answer_id BIGINT,
+    detail VARCHAR(255),
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IX_ANSWER_INGESTION_UPDATED ON answer_ingestion (updated_at);
@@ -7,6 +7,7 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.KeyUse;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
@@ -39,7 +40,7 @@ public class MockAuthorizationServer {
     }
 
 
-    static final Dispatcher dispatcher = new Dispatcher() {
+    public static final Dispatcher dispatcher = new Dispatcher() {
 
         @SneakyThrows
         @NotNull
@@ -66,6 +67,10 @@ public class MockAuthorizationServer {
                         .addHeader("Content-Type", "application/json")
                         .setBody(JWT)
                         .setResponseCode(200);
+                case "/oauth2/jwks" -> mockResponse
+                        .addHeader("Content-Type", "application/json")
+                        .setBody(new JWKSet(rsaKey.toPublicJWK()).toString())
+                        .setResponseCode(200);
                 default -> new MockResponse().setResponseCode(404);
             };
         }
@@ -100,6 +105,26 @@ public class MockAuthorizationServer {
         }
     }
 
+    public static String signUserJwt(Long user_id, String authority, String scope) {
+        try {
+            var claimsSet = new JWTClaimsSet.Builder()
+                    .issuer("http://127.0.0.1:8082")
+                    .subject("user-" + user_id)
+                    .claim("user_id", user_id.toString())
+                    .claim("authority", authority)
+                    .claim("scope", scope)
+                    .issueTime(new Date())
+                    .expirationTime(Date.from(Instant.now().plusSeconds(3600L)))
+                    .build();
+            var signedJWT = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256)
+                    .keyID(rsaKey.getKeyID()).build(), claimsSet);
+            signedJWT.sign(new RSASSASigner(rsaKey));
+            return signedJWT.serialize();
+        } catch (JOSEException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static String writeJwtSignToJson(SignedJWT signer) {
         try {
             return new ObjectMapper().writeValueAsString(
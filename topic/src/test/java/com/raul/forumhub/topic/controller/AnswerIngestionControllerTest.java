@@ -0,0 +1,111 @@
+package com.raul.forumhub.topic.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.dto.request.AnswerTopicDTO;
+import com.raul.forumhub.topic.dto.response.AnswerIngestionDTO;
+import com.raul.forumhub.topic.exception.handler.GlobalExceptionHandler;
+import com.raul.forumhub.topic.ingestion.AnswerIngestionProperties;
+import com.raul.forumhub.topic.ingestion.AnswerIngestionQueue;
+import com.raul.forumhub.topic.security.TopicSecurityConfig;
+import com.raul.forumhub.topic.service.AnswerService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@WebMvcTest
+@ActiveProfiles(value = "test")
+@TestPropertySource(properties = "forumhub.answer-ingestion.enabled=true")
+@ContextConfiguration(classes = {AnswerIngestionController.class, AnswerIngestionProperties.class,
+        TopicSecurityConfig.class, GlobalExceptionHandler.class})
+class AnswerIngestionControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    AnswerIngestionQueue answerIngestionQueue;
+
+    @MockBean
+    AnswerService answerService;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+    private static final Jwt JWT = Jwt.withTokenValue("token")
+            .header("alg", "none")
+            .claim("user_id", "1")
+            .build();
+
+
+    @DisplayName("Should accept the answer asynchronously when respond-async is one of several preferences")
+    @Test
+    void shouldAcceptAnswerWhenRespondAsyncIsAmongPreferences() throws Exception {
+        BDDMockito.given(this.answerIngestionQueue.submit(1L, 1L, "Resposta teste"))
+                .willReturn(Optional.of(new AnswerIngestionDTO("id", AnswerIngestionDTO.Status.PENDING, null, null)));
+
+        this.mockMvc.perform(post("/api-forum/v1/forumhub/topics/{topic_id}/answer", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Prefer", "return=minimal; foo=bar, Respond-Async, wait=5")
+                        .content(new ObjectMapper().writeValueAsString(new AnswerTopicDTO("Resposta teste")))
+                        .with(jwt().jwt(JWT)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.ingestion_id", is("id")));
+
+        BDDMockito.verifyNoInteractions(this.answerService);
+    }
+
+    @DisplayName("Should answer synchronously when the Prefer header does not ask for respond-async")
+    @Test
+    void shouldAnswerSynchronouslyWithoutRespondAsyncPreference() throws Exception {
+        this.mockMvc.perform(post("/api-forum/v1/forumhub/topics/{topic_id}/answer", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Prefer", "return=minimal, wait=5")
+                        .content(new ObjectMapper().writeValueAsString(new AnswerTopicDTO("Resposta teste")))
+                        .with(jwt().jwt(JWT)))
+                .andExpect(status().isCreated());
+
+        BDDMockito.verify(this.answerService).answerTopic(BDDMockito.eq(1L), BDDMockito.eq(1L), any());
+        BDDMockito.verify(this.answerIngestionQueue, BDDMockito.never()).submit(anyLong(), anyLong(), anyString());
+    }
+
+    @DisplayName("Should answer with 503 and Retry-After instead of writing synchronously when the queue is full")
+    @Test
+    void shouldRejectAnswerWhenQueueIsFull() throws Exception {
+        BDDMockito.given(this.answerIngestionQueue.submit(1L, 1L, "Resposta teste")).willReturn(Optional.empty());
+
+        this.mockMvc.perform(post("/api-forum/v1/forumhub/topics/{topic_id}/answer", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Prefer", "respond-async")
+                        .content(new ObjectMapper().writeValueAsString(new AnswerTopicDTO("Resposta teste")))
+                        .with(jwt().jwt(JWT)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        BDDMockito.verifyNoInteractions(this.answerService);
+    }
+
+}
@@ -213,7 +213,7 @@ public class CourseControllerTest {
     void shouldReturnAllCoursesCreatedWithSuccessful() throws Exception {
         BDDMockito.given(this.courseService.getAllCourse())
                 .willReturn(Collections.singletonList(
-                        new GetCourseCollection(TestsHelper.CourseHelper.courseList())));
+                        GetCourseCollection.of(TestsHelper.CourseHelper.courseList())));
 
         this.mockMvc.perform(get("/api-forum/v1/forumhub/courses/listAll")
                         .with(jwt())
@@ -30,6 +30,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 
@@ -208,6 +209,34 @@ class TopicControllerTest {
     }
 
 
+    @DisplayName("Should return topics created in the informed period with successful")
+    @Test
+    void shouldReturnTopicsCreatedInPeriodWithSuccessful() throws Exception {
+        Page<GetTopicDTO> topicPage =
+                new PageImpl<>(TestsHelper.TopicHelper.topicListWithAnswers(),
+                        Pageable.unpaged(), 3)
+                        .map(GetTopicDTO::new);
+
+        BDDMockito.given(this.topicService.topicListByPeriod(any(LocalDateTime.class), any(LocalDateTime.class),
+                        any(Pageable.class)))
+                .willReturn(topicPage);
+
+        this.mockMvc.perform(get("/api-forum/v1/forumhub/topics/listAll")
+                        .queryParam("from", "2024-01-01T00:00:00")
+                        .queryParam("to", "2024-02-01T00:00:00")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..getTopicDTOList.length()", is(3)));
+
+        BDDMockito.verify(this.topicService).topicListByPeriod(LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(2024, 2, 1, 0, 0), Pageable.ofSize(10));
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+
+    }
+
+
     @DisplayName("Should return only two topics sorted in ascendant by status with successful")
     @Test
     void shouldReturnTwoTopicsSortedAscendantByStatusWithSuccessful() throws Exception {
@@ -318,7 +347,7 @@ class TopicControllerTest {
     @DisplayName("Should return the specified topic with successful if exists")
     @Test
     void shouldReturnTheSpecifiedTopicWithSuccessful() throws Exception {
-        BDDMockito.given(this.topicService.getTopicById(1L))
+        BDDMockito.given(this.topicService.viewTopic(1L))
                 .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
 
         this.mockMvc.perform(get("/api-forum/v1/forumhub/topics")
@@ -329,7 +358,33 @@ class TopicControllerTest {
                 .andExpect(jsonPath("$.[?(@.id == 1)]").exists())
                 .andExpect(jsonPath("$.title", is("Dúvida na utilização do Feign Client")));
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
+        BDDMockito.verify(this.topicService).viewTopic(1L);
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
+
+    @DisplayName("Should return topic and answer authors with profile as name and without email")
+    @Test
+    void shouldReturnAuthorSummaryWithProfileNameAndWithoutEmail() throws Exception {
+        BDDMockito.given(this.topicService.viewTopic(1L))
+                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
+
+        this.mockMvc.perform(get("/api-forum/v1/forumhub/topics")
+                        .queryParam("topic_id", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.author.id", is(1)))
+                .andExpect(jsonPath("$.author.username", is("Jose")))
+                .andExpect(jsonPath("$.author.profile", is("BASIC")))
+                .andExpect(jsonPath("$.author.email").doesNotExist())
+                .andExpect(jsonPath("$.answer[0].author.id", is(2)))
+                .andExpect(jsonPath("$.answer[0].author.username", is("Maria")))
+                .andExpect(jsonPath("$.answer[0].author.profile", is("MOD")))
+                .andExpect(jsonPath("$.answer[0].author.email").doesNotExist());
+
+        BDDMockito.verify(this.topicService).viewTopic(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
 
     }
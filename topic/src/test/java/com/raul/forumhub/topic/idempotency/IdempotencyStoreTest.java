@@ -0,0 +1,137 @@
+package com.raul.forumhub.topic.idempotency;
+
+import com.raul.forumhub.topic.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    private static final StoredResponse CREATED = new StoredResponse("fingerprint", 201, null, new byte[0]);
+
+    @Mock
+    IdempotencyKeyRepository idempotencyKeyRepository;
+
+    IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setup() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setPaths(List.of("/api-forum/v1/forumhub/topics/{topic_id}/answer"));
+        this.idempotencyStore = new IdempotencyStore(this.idempotencyKeyRepository, properties, new SimpleMeterRegistry());
+    }
+
+
+    @DisplayName("Should only handle the configured paths")
+    @Test
+    void shouldOnlyHandleConfiguredPaths() {
+        assertAll(
+                () -> assertTrue(this.idempotencyStore.handles("/api-forum/v1/forumhub/topics/1/answer")),
+                () -> assertFalse(this.idempotencyStore.handles("/api-forum/v1/forumhub/topics/create"))
+        );
+    }
+
+    @DisplayName("Should replay the stored response from memory for a retried request")
+    @Test
+    void shouldReplayRetriedRequestFromMemory() {
+        BDDMockito.given(this.idempotencyKeyRepository.claim(eq(1L), eq("key"), eq("fingerprint"), any(Instant.class),
+                any(Instant.class), any(Instant.class)))
+                .willReturn(true);
+
+        IdempotencyStore.Claim claim = this.idempotencyStore.begin(1L, "key", "fingerprint");
+        this.idempotencyStore.complete(1L, "key", claim, CREATED);
+        IdempotencyStore.Claim retry = this.idempotencyStore.begin(1L, "key", "fingerprint");
+        IdempotencyStore.Claim changed = this.idempotencyStore.begin(1L, "key", "other-fingerprint");
+
+        assertAll(
+                () -> assertEquals(IdempotencyStore.Claim.State.EXECUTE, claim.state()),
+                () -> assertEquals(IdempotencyStore.Claim.State.REPLAY, retry.state()),
+                () -> assertSame(CREATED, retry.response()),
+                () -> assertEquals(IdempotencyStore.Claim.State.MISMATCH, changed.state())
+        );
+        BDDMockito.verify(this.idempotencyKeyRepository, times(1)).claim(any(), any(), any(), any(), any(), any());
+        BDDMockito.verify(this.idempotencyKeyRepository).complete(eq(1L), eq("key"), any(Instant.class), eq(CREATED));
+    }
+
+    @DisplayName("Should make a concurrent duplicate wait for the first execution")
+    @Test
+    void shouldMakeConcurrentDuplicateWaitForFirstExecution() throws Exception {
+        BDDMockito.given(this.idempotencyKeyRepository.claim(eq(1L), eq("key"), eq("fingerprint"), any(Instant.class),
+                any(Instant.class), any(Instant.class)))
+                .willReturn(true);
+
+        IdempotencyStore.Claim claim = this.idempotencyStore.begin(1L, "key", "fingerprint");
+        CompletableFuture<IdempotencyStore.Claim> duplicate =
+                CompletableFuture.supplyAsync(() -> this.idempotencyStore.begin(1L, "key", "fingerprint"));
+
+        assertThrows(Exception.class, () -> duplicate.get(100, TimeUnit.MILLISECONDS));
+        this.idempotencyStore.complete(1L, "key", claim, CREATED);
+
+        assertEquals(IdempotencyStore.Claim.State.REPLAY, duplicate.get(5, TimeUnit.SECONDS).state());
+    }
+
+    @DisplayName("Should replay a response stored by another instance and report keys still in progress there")
+    @Test
+    void shouldUseDatabaseWhenKeyIsClaimedElsewhere() {
+        BDDMockito.given(this.idempotencyKeyRepository.claim(any(), any(), any(), any(), any(), any())).willReturn(false);
+        BDDMockito.given(this.idempotencyKeyRepository.find(1L, "stored")).willReturn(Optional.of(CREATED));
+        BDDMockito.given(this.idempotencyKeyRepository.find(1L, "running"))
+                .willReturn(Optional.of(new StoredResponse("fingerprint", -1, null, null)));
+
+        assertAll(
+                () -> assertEquals(IdempotencyStore.Claim.State.REPLAY,
+                        this.idempotencyStore.begin(1L, "stored", "fingerprint").state()),
+                () -> assertEquals(IdempotencyStore.Claim.State.IN_PROGRESS,
+                        this.idempotencyStore.begin(1L, "running", "fingerprint").state())
+        );
+    }
+
+    @DisplayName("Should execute again after a failed execution released the key")
+    @Test
+    void shouldExecuteAgainAfterRelease() {
+        BDDMockito.given(this.idempotencyKeyRepository.claim(eq(1L), eq("key"), eq("fingerprint"), any(Instant.class),
+                any(Instant.class), any(Instant.class)))
+                .willReturn(true);
+
+        IdempotencyStore.Claim claim = this.idempotencyStore.begin(1L, "key", "fingerprint");
+        this.idempotencyStore.release(1L, "key", claim);
+
+        assertEquals(IdempotencyStore.Claim.State.EXECUTE, this.idempotencyStore.begin(1L, "key", "fingerprint").state());
+        BDDMockito.verify(this.idempotencyKeyRepository).release(eq(1L), eq("key"), any(Instant.class));
+    }
+
+    @DisplayName("Should claim with a lease cutoff one lease before the claim time")
+    @Test
+    void shouldClaimWithLeaseCutoff() {
+        ArgumentCaptor<Instant> claimedAt = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> leaseCutoff = ArgumentCaptor.forClass(Instant.class);
+        BDDMockito.given(this.idempotencyKeyRepository.claim(eq(1L), eq("key"), eq("fingerprint"), claimedAt.capture(),
+                any(Instant.class), leaseCutoff.capture())).willReturn(true);
+
+        IdempotencyStore.Claim claim = this.idempotencyStore.begin(1L, "key", "fingerprint");
+        this.idempotencyStore.release(1L, "key", claim);
+
+        assertEquals(Duration.ofMinutes(1), Duration.between(leaseCutoff.getValue(), claimedAt.getValue()));
+        BDDMockito.verify(this.idempotencyKeyRepository).release(1L, "key", claimedAt.getValue());
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.raul.forumhub.topic.ingestion;
+
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.dto.response.AnswerIngestionDTO;
+import com.raul.forumhub.topic.dto.response.TopicCourseRow;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.event.TopicStreamEvent;
+import com.raul.forumhub.topic.repository.AnswerIngestionRepository;
+import com.raul.forumhub.topic.repository.AuthorRepository;
+import com.raul.forumhub.topic.repository.BatchInsertRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import com.raul.forumhub.topic.util.TestsHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class AnswerIngestionQueueTest {
+
+    @Mock
+    BatchInsertRepository batchInsertRepository;
+
+    @Mock
+    TopicRepository topicRepository;
+
+    @Mock
+    AuthorRepository authorRepository;
+
+    @Mock
+    AnswerIngestionRepository answerIngestionRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    AnswerIngestionQueue answerIngestionQueue;
+
+    @BeforeEach
+    void setup() {
+        AnswerIngestionProperties properties = new AnswerIngestionProperties();
+        properties.setQueueCapacity(3);
+        properties.setBatchSize(10);
+        properties.setFlushInterval(Duration.ofMillis(10));
+        properties.setEnqueueTimeout(Duration.ofMillis(10));
+        this.answerIngestionQueue = new AnswerIngestionQueue(this.batchInsertRepository, this.topicRepository,
+                this.authorRepository, this.answerIngestionRepository, this.transactionTemplate, this.eventPublisher, properties, new SimpleMeterRegistry());
+    }
+
+
+    @DisplayName("Should write queued answers with one batch insert and report each ingestion")
+    @Test
+    void shouldWriteQueuedAnswersInOneBatch() throws InterruptedException {
+        this.stubTransaction();
+        BDDMockito.given(this.topicRepository.lockCourseIdsByIds(Set.of(1L, 9L)))
+                .willReturn(List.of(new TopicCourseRow(1L, 1L)));
+        BDDMockito.given(this.authorRepository.findAllById(Set.of(1L, 2L)))
+                .willReturn(TestsHelper.AuthorHelper.authorList().subList(0, 2));
+        BDDMockito.given(this.batchInsertRepository.insertAnswers(anyList())).willReturn(List.of(10L, 11L));
+
+        String first = this.answerIngestionQueue.submit(1L, 1L, "Primeira resposta").orElseThrow().ingestion_id();
+        String second = this.answerIngestionQueue.submit(1L, 2L, "Segunda resposta").orElseThrow().ingestion_id();
+        String orphan = this.answerIngestionQueue.submit(9L, 1L, "Resposta sem tópico").orElseThrow().ingestion_id();
+
+        assertEquals(AnswerIngestionDTO.Status.PENDING,
+                this.answerIngestionQueue.ingestion(first, 1L).orElseThrow().status());
+        BDDMockito.verifyNoInteractions(this.answerIngestionRepository);
+        assertEquals(3, this.answerIngestionQueue.drainOnce());
+
+        BDDMockito.verify(this.answerIngestionRepository).complete(List.of(
+                new AnswerIngestionDTO(orphan, AnswerIngestionDTO.Status.FAILED, null, "O tópico informado não existe"),
+                new AnswerIngestionDTO(first, AnswerIngestionDTO.Status.CREATED, 10L, null),
+                new AnswerIngestionDTO(second, AnswerIngestionDTO.Status.CREATED, 11L, null)), List.of(1L, 1L, 2L));
+        assertTrue(this.answerIngestionQueue.ingestion(first, 1L).isEmpty());
+        BDDMockito.verify(this.topicRepository, never()).findAllById(any());
+        BDDMockito.verify(this.batchInsertRepository).insertAnswers(BDDMockito.<List<Answer>>argThat(answers -> answers.size() == 2));
+        BDDMockito.verify(this.topicRepository).adjustAnswerCount(1L, 2);
+        BDDMockito.verify(this.eventPublisher, times(2)).publishEvent(any(TopicActivityEvent.class));
+        BDDMockito.verify(this.eventPublisher, times(2)).publishEvent(any(TopicStreamEvent.class));
+    }
+
+    @DisplayName("Should mark the whole batch as failed when the insert fails")
+    @Test
+    void shouldFailWholeBatchWhenInsertFails() throws InterruptedException {
+        this.stubTransaction();
+        BDDMockito.given(this.topicRepository.lockCourseIdsByIds(Set.of(1L)))
+                .willReturn(List.of(new TopicCourseRow(1L, 1L)));
+        BDDMockito.given(this.authorRepository.findAllById(Set.of(1L)))
+                .willReturn(TestsHelper.AuthorHelper.authorList().subList(0, 1));
+        BDDMockito.given(this.batchInsertRepository.insertAnswers(anyList()))
+                .willThrow(DataIntegrityViolationException.class);
+
+        String ingestion_id = this.answerIngestionQueue.submit(1L, 1L, "Resposta").orElseThrow().ingestion_id();
+        this.answerIngestionQueue.drainOnce();
+
+        BDDMockito.verify(this.answerIngestionRepository).complete(List.of(
+                new AnswerIngestionDTO(ingestion_id, AnswerIngestionDTO.Status.FAILED, null, "Lote não processado")),
+                List.of(1L));
+        BDDMockito.verify(this.eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @DisplayName("Should refuse new answers once the queue is full")
+    @Test
+    void shouldRefuseAnswersWhenQueueIsFull() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(this.answerIngestionQueue.submit(1L, 1L, "Resposta " + i).isPresent());
+        }
+
+        assertTrue(this.answerIngestionQueue.submit(1L, 1L, "Resposta excedente").isEmpty());
+        BDDMockito.verifyNoInteractions(this.answerIngestionRepository);
+    }
+
+    private void stubTransaction() {
+        BDDMockito.given(this.transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+}
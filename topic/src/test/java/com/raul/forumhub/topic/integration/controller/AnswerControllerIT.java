@@ -2,6 +2,9 @@ package com.raul.forumhub.topic.integration.controller;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.query.QueryBudget;
+import com.raul.forumhub.query.QueryBudgetExtension;
+import com.raul.forumhub.query.QueryRecordingConfig;
 import com.raul.forumhub.topic.client.UserClientRequest;
 import com.raul.forumhub.topic.domain.Answer;
 import com.raul.forumhub.topic.domain.Topic;
@@ -11,19 +14,21 @@ import com.raul.forumhub.topic.exception.RestClientException;
 import com.raul.forumhub.topic.repository.*;
 import com.raul.forumhub.topic.util.TestsHelper;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -40,6 +45,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ActiveProfiles(value = "test")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @TestClassOrder(ClassOrderer.ClassName.class)
+@ExtendWith(QueryBudgetExtension.class)
+@Import(QueryRecordingConfig.class)
 @Order(1)
 public class AnswerControllerIT {
 
@@ -84,9 +91,11 @@ public class AnswerControllerIT {
             this.profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
             this.authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
             this.courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+            hasBeenInitialized = true;
+        }
+        if (this.topicRepository.count() == 0) {
             this.topicRepository.saveAll(TestsHelper.TopicHelper.topicList());
             this.answerRepository.saveAll(TestsHelper.AnswerHelper.answerList());
-            hasBeenInitialized = true;
         }
     }
 
@@ -187,7 +196,8 @@ public class AnswerControllerIT {
                 () -> assertFalse(this.topicRepository.findById(6L).isPresent())
         );
 
-        BDDMockito.verifyNoInteractions(this.userClientRequest);
+        BDDMockito.verify(this.userClientRequest).getUserById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
 
@@ -221,10 +231,11 @@ public class AnswerControllerIT {
     }
 
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("Should answer topic with success if user is authenticated and " +
             "previous premisses are adequate")
     @Test
+    @QueryBudget(value = "POST /api-forum/v1/forumhub/topics/*/answer", max = 3)
     void shouldAnswerTopicWithSuccessIfAuthenticated() throws Exception {
         final AnswerTopicDTO answerTopicDTO = new AnswerTopicDTO("Resposta teste");
 
@@ -330,7 +341,8 @@ public class AnswerControllerIT {
                 () -> assertFalse(this.topicRepository.findById(6L).isPresent())
         );
 
-        BDDMockito.verifyNoInteractions(this.userClientRequest);
+        BDDMockito.verify(this.userClientRequest).getUserById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
 
@@ -457,10 +469,11 @@ public class AnswerControllerIT {
     }
 
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("Should mark answer best with success if user is authenticated and " +
             "previous premisses are adequate")
     @Test
+    @QueryBudget(value = "POST /api-forum/v1/forumhub/topics/*/markBestAnswer", max = 3)
     void shouldMarkAnswerBestWithSuccessIfAuthenticated() throws Exception {
         BDDMockito.given(this.userClientRequest.getUserById(1L)).
                 willReturn(TestsHelper.AuthorHelper.authorList().get(0));
@@ -627,7 +640,8 @@ public class AnswerControllerIT {
                         .getSolution().equals("Primeiro teste de edição de uma resposta")))
         );
 
-        BDDMockito.verifyNoInteractions(this.userClientRequest);
+        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
 
@@ -659,7 +673,8 @@ public class AnswerControllerIT {
                         .equals("Primeiro teste de edição de uma resposta")))
         );
 
-        BDDMockito.verifyNoInteractions(this.userClientRequest);
+        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
 
@@ -776,10 +791,11 @@ public class AnswerControllerIT {
     }
 
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("Answer author should be able edit specified answer if authenticated, " +
             "has authority 'answer:edit' and previous premisses are adequate")
     @Test
+    @QueryBudget(value = "PUT /api-forum/v1/forumhub/topics/*/answers/edit", max = 2)
     void answerAuthorShouldEditSpecifiedAnswerWithSuccessIfHasSuitableAuthority() throws Exception {
         final AnswerUpdateDTO answerUpdateDTO =
                 new AnswerUpdateDTO("Primeiro teste de edição de uma resposta");
@@ -816,10 +832,11 @@ public class AnswerControllerIT {
     }
 
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("User ADM should be able edit answer of other author if authenticated, " +
             "has authority 'answer:edit' and previous premisses are adequate")
     @Test
+    @QueryBudget(value = "PUT /api-forum/v1/forumhub/topics/*/answers/edit", max = 2)
     void userADMShouldEditAnswerOfOtherAuthorWithSuccessIfHasSuitableAuthority() throws Exception {
         final AnswerUpdateDTO answerUpdateDTO =
                 new AnswerUpdateDTO("Segundo teste de edição de uma resposta");
@@ -855,10 +872,11 @@ public class AnswerControllerIT {
     }
 
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("User MOD should be able edit answer of other author if authenticated, " +
             "has authority 'answer:edit' and previous premisses are adequate")
     @Test
+    @QueryBudget(value = "PUT /api-forum/v1/forumhub/topics/*/answers/edit", max = 2)
     void userMODShouldEditAnswerOfOtherAuthorWithSuccessIfHasSuitableAuthority() throws Exception {
         final AnswerUpdateDTO answerUpdateDTO =
                 new AnswerUpdateDTO("Terceiro teste de edição de uma resposta");
@@ -1050,10 +1068,11 @@ public class AnswerControllerIT {
     }
 
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("Answer author should be able delete your answer if authenticated, " +
             "has authority 'answer:delete' and previous premisses are adequate")
     @Test
+    @QueryBudget(value = "DELETE /api-forum/v1/forumhub/topics/*/answers/delete", max = 3)
     void answerAuthorShouldDeleteYourAnswerWithSuccessIfHasSuitableAuthority() throws Exception {
         BDDMockito.given(this.userClientRequest.getUserById(2L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
@@ -1073,10 +1092,11 @@ public class AnswerControllerIT {
     }
 
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("User ADM should be able delete an answer of the other author " +
             "with successful if has authority 'answer:delete'")
     @Test
+    @QueryBudget(value = "DELETE /api-forum/v1/forumhub/topics/*/answers/delete", max = 3)
     void userADMShouldDeleteAnAnswerOfTheOtherAuthorWithSuccessful() throws Exception {
         BDDMockito.given(this.userClientRequest.getUserById(3L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
@@ -1096,10 +1116,11 @@ public class AnswerControllerIT {
     }
 
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("User MOD should be able delete an answer of the other author " +
             "with successful if has authority 'answer:delete'")
     @Test
+    @QueryBudget(value = "DELETE /api-forum/v1/forumhub/topics/*/answers/delete", max = 3)
     void userMODShouldDeleteAnAnswerOfTheOtherAuthorWithSuccessful() throws Exception {
         BDDMockito.given(this.userClientRequest.getUserById(2L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
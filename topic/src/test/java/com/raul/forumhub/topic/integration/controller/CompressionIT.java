@@ -0,0 +1,135 @@
+package com.raul.forumhub.topic.integration.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.domain.Course;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.repository.AuthorRepository;
+import com.raul.forumhub.topic.repository.CourseRepository;
+import com.raul.forumhub.topic.repository.ProfileRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import com.raul.forumhub.topic.util.TestsHelper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:compression;INIT=CREATE SCHEMA IF NOT EXISTS HUB",
+        "server.compression.enabled=true",
+        "server.compression.min-response-size=2KB",
+        "server.compression.mime-types=application/json,application/hal+json"
+})
+@ActiveProfiles(value = "test")
+class CompressionIT {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    AuthorRepository authorRepository;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    TopicRepository topicRepository;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+    final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private static boolean hasBeenInitialized = false;
+
+
+    @BeforeEach
+    void setup() {
+        if (!hasBeenInitialized) {
+            this.profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+            List<Author> authors = this.authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
+            List<Course> courses = this.courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+
+            this.topicRepository.saveAll(IntStream.range(0, 50)
+                    .mapToObj(i -> new Topic("Dúvida número " + i + " sobre a utilização do Feign Client",
+                            "Como utilizar o Feign Client para integração do serviço " + i + "?",
+                            authors.get(i % authors.size()), courses.get(i % courses.size())))
+                    .toList());
+            hasBeenInitialized = true;
+        }
+    }
+
+
+    @SneakyThrows
+    @DisplayName("Should compress large topic pages when the client accepts gzip")
+    @Test
+    void shouldCompressLargeTopicPagesWithGzip() {
+        HttpResponse<byte[]> response = this.get("/api-forum/v1/forumhub/topics/listAll?size=50", "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+
+        byte[] body;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            body = gzip.readAllBytes();
+        }
+        JsonNode page = new ObjectMapper().readTree(body);
+
+        assertAll(
+                () -> assertTrue(response.body().length < body.length),
+                () -> assertEquals(50, page.at("/page/totalElements").asInt())
+        );
+    }
+
+    @SneakyThrows
+    @DisplayName("Should not compress topic pages when the client doesn't accept gzip")
+    @Test
+    void shouldNotCompressWhenClientDoesNotAcceptGzip() {
+        HttpResponse<byte[]> response = this.get("/api-forum/v1/forumhub/topics/listAll?size=50", "identity");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+    }
+
+    @SneakyThrows
+    @DisplayName("Should not compress responses below the configured threshold")
+    @Test
+    void shouldNotCompressSmallResponses() {
+        Long topic_id = this.topicRepository.findAll().get(0).getId();
+
+        HttpResponse<byte[]> response = this.get("/api-forum/v1/forumhub/topics?topic_id=" + topic_id, "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        return this.httpClient.send(HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + this.port + path))
+                        .header("Accept-Encoding", acceptEncoding)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+}
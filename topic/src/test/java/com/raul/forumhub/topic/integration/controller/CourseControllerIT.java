@@ -2,16 +2,21 @@ package com.raul.forumhub.topic.integration.controller;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.query.QueryBudget;
+import com.raul.forumhub.query.QueryBudgetExtension;
+import com.raul.forumhub.query.QueryRecordingConfig;
 import com.raul.forumhub.topic.domain.Course;
 import com.raul.forumhub.topic.dto.request.CourseCreateDTO;
 import com.raul.forumhub.topic.dto.request.CourseUpdateDTO;
 import com.raul.forumhub.topic.repository.CourseRepository;
 import com.raul.forumhub.topic.util.TestsHelper;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
@@ -32,6 +37,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ActiveProfiles(value = "test")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @TestClassOrder(ClassOrderer.ClassName.class)
+@ExtendWith(QueryBudgetExtension.class)
+@Import(QueryRecordingConfig.class)
 @Order(3)
 public class CourseControllerIT {
 
@@ -258,6 +265,7 @@ public class CourseControllerIT {
 
     @DisplayName("Should return all courses created with successful if authenticated")
     @Test
+    @QueryBudget(value = "GET /api-forum/v1/forumhub/courses/listAll", max = 2)
     void shouldReturnAllCoursesCreatedWithSuccessful() throws Exception {
         this.mockMvc.perform(get("/api-forum/v1/forumhub/courses/listAll")
                         .with(jwt())
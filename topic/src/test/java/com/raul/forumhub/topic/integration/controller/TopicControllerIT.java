@@ -2,6 +2,9 @@ package com.raul.forumhub.topic.integration.controller;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.query.QueryBudget;
+import com.raul.forumhub.query.QueryBudgetExtension;
+import com.raul.forumhub.query.QueryRecordingConfig;
 import com.raul.forumhub.topic.client.UserClientRequest;
 import com.raul.forumhub.topic.domain.Status;
 import com.raul.forumhub.topic.domain.Topic;
@@ -11,19 +14,21 @@ import com.raul.forumhub.topic.exception.RestClientException;
 import com.raul.forumhub.topic.repository.*;
 import com.raul.forumhub.topic.util.TestsHelper;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 
@@ -39,6 +44,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ActiveProfiles(value = "test")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @TestClassOrder(ClassOrderer.ClassName.class)
+@ExtendWith(QueryBudgetExtension.class)
+@Import(QueryRecordingConfig.class)
 @Order(2)
 public class TopicControllerIT {
 
@@ -83,9 +90,11 @@ public class TopicControllerIT {
             this.profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
             this.authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
             this.courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+            hasBeenInitialized = true;
+        }
+        if (this.topicRepository.count() == 0) {
             this.topicRepository.saveAll(TestsHelper.TopicHelper.topicList());
             this.answerRepository.saveAll(TestsHelper.AnswerHelper.answerList());
-            hasBeenInitialized = true;
         }
     }
 
@@ -278,10 +287,11 @@ public class TopicControllerIT {
     }
 
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("Should create topic with success if user is authenticated and " +
             "previous premisses are adequate")
     @Test
+    @QueryBudget(value = "POST /api-forum/v1/forumhub/topics/create", max = 1)
     void shouldCreateTopicWithSuccessIfAuthenticated() throws Exception {
         final TopicCreateDTO topicCreateDTO = new TopicCreateDTO("Dúvida na utilização do Feign Client",
                 "Como utilizar o Feign Client para integração do serviço x?",
@@ -308,6 +318,7 @@ public class TopicControllerIT {
 
     @DisplayName("Should return all topics unsorted with successful")
     @Test
+    @QueryBudget(value = "GET /api-forum/v1/forumhub/topics/listAll", max = 8)
     void shouldReturnAllTopicsUnsortedWithSuccessful() throws Exception {
         this.mockMvc.perform(get("/api-forum/v1/forumhub/topics/listAll")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -441,6 +452,7 @@ public class TopicControllerIT {
 
     @DisplayName("Should return the specified topic with successful if exists")
     @Test
+    @QueryBudget(value = "GET /api-forum/v1/forumhub/topics", max = 5)
     void shouldReturnTheSpecifiedTopicWithSuccessful() throws Exception {
         this.mockMvc.perform(get("/api-forum/v1/forumhub/topics")
                         .queryParam("topic_id", "1")
@@ -638,7 +650,8 @@ public class TopicControllerIT {
                 () -> assertEquals("Como utilizar o Feign Client para integração do serviço x?", topic.getQuestion())
         );
 
-        BDDMockito.verifyNoInteractions(this.userClientRequest);
+        BDDMockito.verify(this.userClientRequest).getUserById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
 
@@ -753,10 +766,11 @@ public class TopicControllerIT {
 
     }
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("Topic author should be able edit specified topic if authenticated, " +
             "has authority 'topic:edit' and previous premisses are adequate")
     @Test
+    @QueryBudget(value = "PUT /api-forum/v1/forumhub/topics/edit", max = 2)
     void topicAuthorShouldEditSpecifiedTopicWithSuccessIfHasSuitableAuthority() throws Exception {
         final TopicUpdateDTO topicUpdateDTO = new TopicUpdateDTO(
                 "Dúvida na utilização do WebClient",
@@ -793,10 +807,11 @@ public class TopicControllerIT {
 
     }
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("User ADM should be able edit topic of other author if authenticated, " +
             "has authority 'topic:edit' and previous premisses are adequate")
     @Test
+    @QueryBudget(value = "PUT /api-forum/v1/forumhub/topics/edit", max = 2)
     void userADMShouldEditTopicOfOtherAuthorWithSuccessIfHasSuitableAuthority() throws Exception {
         final TopicUpdateDTO topicUpdateDTO = new TopicUpdateDTO(
                 "Dúvida na utilização do RestTemplate",
@@ -833,10 +848,11 @@ public class TopicControllerIT {
 
     }
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("User MOD should be able edit topic of other author if authenticated, " +
             "has authority 'topic:edit' and previous premisses are adequate")
     @Test
+    @QueryBudget(value = "PUT /api-forum/v1/forumhub/topics/edit", max = 2)
     void userMODShouldEditTopicOfOtherAuthorWithSuccessIfHasSuitableAuthority() throws Exception {
         final TopicUpdateDTO topicUpdateDTO = new TopicUpdateDTO(
                 "Dúvida na utilização da API de validação do Spring",
@@ -974,10 +990,11 @@ public class TopicControllerIT {
 
     }
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("Topic author should be able delete specified topic if authenticated, " +
             "has authority 'topic:delete' and previous premisses are adequate")
     @Test
+    @QueryBudget(value = "DELETE /api-forum/v1/forumhub/topics/delete", max = 3)
     void topicAuthorShouldDeleteSpecifiedTopicWithSuccessIfHasSuitableAuthority() throws Exception {
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(0));
@@ -998,10 +1015,11 @@ public class TopicControllerIT {
 
     }
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("User ADM should be able delete topic of other author if authenticated, " +
             "has authority 'topic:delete' and previous premisses are adequate")
     @Test
+    @QueryBudget(value = "DELETE /api-forum/v1/forumhub/topics/delete", max = 3)
     void userADMShouldDeleteTopicOfOtherAuthorWithSuccessIfHasSuitableAuthority() throws Exception {
         BDDMockito.given(this.userClientRequest.getUserById(3L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
@@ -1022,10 +1040,11 @@ public class TopicControllerIT {
 
     }
 
-    @Transactional
+    @Sql(scripts = "/reset-topics.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     @DisplayName("User MOD should be able delete topic of other author if authenticated, " +
             "has authority 'topic:delete' and previous premisses are adequate")
     @Test
+    @QueryBudget(value = "DELETE /api-forum/v1/forumhub/topics/delete", max = 3)
     void userMODShouldDeleteTopicOfOtherAuthorWithSuccessIfHasSuitableAuthority() throws Exception {
         BDDMockito.given(this.userClientRequest.getUserById(2L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
@@ -0,0 +1,85 @@
+package com.raul.forumhub.topic.integration.controller;
+
+import lombok.SneakyThrows;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:tracing;INIT=CREATE SCHEMA IF NOT EXISTS HUB")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles(value = "test")
+class TracingIT {
+
+    static final MockWebServer collector = new MockWebServer();
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+    @SneakyThrows
+    @DynamicPropertySource
+    static void tracingProperties(DynamicPropertyRegistry registry) {
+        collector.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest recordedRequest) {
+                return new MockResponse().setResponseCode(200);
+            }
+        });
+        collector.start();
+
+        registry.add("management.otlp.tracing.endpoint", () -> collector.url("/v1/traces").toString());
+        registry.add("management.tracing.sampling.probability", () -> "1.0");
+    }
+
+    @SneakyThrows
+    @AfterAll
+    static void collectorTeardown() {
+        collector.shutdown();
+    }
+
+
+    @SneakyThrows
+    @Test
+    void shouldExportRequestSpansToTheConfiguredCollector() {
+        this.mockMvc.perform(get("/api-forum/v1/forumhub/courses/listAll")
+                        .with(jwt()))
+                .andExpect(status().isOk());
+
+        RecordedRequest export = collector.takeRequest(15, TimeUnit.SECONDS);
+
+        assertNotNull(export, "Nenhum span foi exportado para o coletor");
+        assertAll(
+                () -> assertEquals("POST", export.getMethod()),
+                () -> assertEquals("/v1/traces", export.getPath()),
+                () -> assertEquals("application/x-protobuf", export.getHeader("Content-Type")),
+                () -> assertTrue(export.getBodySize() > 0)
+        );
+    }
+
+}
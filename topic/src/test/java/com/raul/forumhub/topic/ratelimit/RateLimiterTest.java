@@ -0,0 +1,94 @@
+package com.raul.forumhub.topic.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @DisplayName("Should spend the burst capacity and refill tokens proportionally to the elapsed time")
+    @Test
+    void shouldSpendBurstAndRefillOverTime() {
+        BucketTable buckets = new BucketTable(4, 100, 3, 60_000);
+
+        IntStream.range(0, 3).forEach(i -> assertEquals(0, buckets.tryAcquire(1L, 0)));
+
+        assertAll(
+                () -> assertEquals(20_000, buckets.tryAcquire(1L, 0)),
+                () -> assertEquals(10_000, buckets.tryAcquire(1L, 10_000)),
+                () -> assertEquals(0, buckets.tryAcquire(1L, 20_000)),
+                () -> assertEquals(0, buckets.tryAcquire(2L, 20_000))
+        );
+    }
+
+    @DisplayName("Should not push the refill back when rejecting requests")
+    @Test
+    void shouldNotPushRefillBackWhenRejecting() {
+        BucketTable buckets = new BucketTable(1, 10, 1, 1_000);
+        assertEquals(0, buckets.tryAcquire(1L, 0));
+
+        for (long now = 1; now < 1_000; now++) {
+            assertTrue(buckets.tryAcquire(1L, now) > 0);
+        }
+
+        assertEquals(0, buckets.tryAcquire(1L, 1_000));
+    }
+
+    @DisplayName("Should not exceed the capacity after a full bucket sits idle")
+    @Test
+    void shouldNotExceedCapacityAfterIdleFullBucket() {
+        TokenBucket bucket = new TokenBucket(3, 3_000, 0);
+
+        IntStream.range(0, 3).forEach(i -> assertEquals(0, bucket.tryAcquire(100_000)));
+
+        assertAll(
+                () -> assertEquals(1_000, bucket.tryAcquire(100_000)),
+                () -> assertEquals(0, bucket.tryAcquire(101_000)),
+                () -> assertTrue(bucket.tryAcquire(101_000) > 0)
+        );
+    }
+
+    @DisplayName("Should stay within the configured bound evicting full buckets first")
+    @Test
+    void shouldEvictFullBucketsFirst() {
+        BucketTable buckets = new BucketTable(1, 10, 1, 1_000);
+        LongStream.range(0, 10).forEach(user_id -> assertEquals(0, buckets.tryAcquire(user_id, 0)));
+        assertEquals(0, buckets.tryAcquire(0L, 1_000));
+
+        assertEquals(0, buckets.tryAcquire(10L, 1_000));
+
+        assertAll(
+                () -> assertEquals(2, buckets.size()),
+                () -> assertTrue(buckets.tryAcquire(0L, 1_000) > 0)
+        );
+    }
+
+    @DisplayName("Should only limit the configured method and path")
+    @Test
+    void shouldOnlyLimitConfiguredEndpoints() {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setPath("/api-forum/v1/forumhub/topics/{topic_id}/answer");
+        rule.setCapacity(1);
+        rule.setPeriod(Duration.ofMinutes(1));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRules().put("topic-answer", rule);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        RateLimiter rateLimiter = new RateLimiter(properties, meterRegistry);
+
+        assertAll(
+                () -> assertEquals(0, rateLimiter.tryAcquire("POST", "/api-forum/v1/forumhub/topics/1/answer", 1L)),
+                () -> assertTrue(rateLimiter.tryAcquire("POST", "/api-forum/v1/forumhub/topics/2/answer", 1L) > 0),
+                () -> assertEquals(0, rateLimiter.tryAcquire("GET", "/api-forum/v1/forumhub/topics/1/answer", 1L)),
+                () -> assertEquals(0, rateLimiter.tryAcquire("POST", "/api-forum/v1/forumhub/topics/create", 1L)),
+                () -> assertEquals(1, meterRegistry.get("forumhub.ratelimit.rejected").counter().count())
+        );
+    }
+
+}
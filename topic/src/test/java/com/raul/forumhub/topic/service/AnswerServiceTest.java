@@ -5,6 +5,9 @@ import com.raul.forumhub.topic.domain.Answer;
 import com.raul.forumhub.topic.domain.Topic;
 import com.raul.forumhub.topic.dto.request.AnswerTopicDTO;
 import com.raul.forumhub.topic.dto.request.AnswerUpdateDTO;
+import com.raul.forumhub.topic.dto.response.TopicCourseRow;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.event.TopicStreamEvent;
 import com.raul.forumhub.topic.exception.*;
 import com.raul.forumhub.topic.repository.AnswerRepository;
 import com.raul.forumhub.topic.util.TestsHelper;
@@ -15,7 +18,10 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -34,16 +40,28 @@ public class AnswerServiceTest {
     @Mock
     UserClientRequest userClientRequest;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
     @InjectMocks
     AnswerService answerService;
 
+    @BeforeEach
+    void setup() {
+        BDDMockito.lenient().when(this.transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
 
     @Test
     void shouldFailIfQuestionPropertyIsEmptyWhenAnswerTopic() {
         final AnswerTopicDTO answerTopicDTO = new AnswerTopicDTO("");
 
-        BDDMockito.given(this.topicService.getTopicById(1L))
-                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
+        BDDMockito.given(this.topicService.lockTopicForAnswers(1L))
+                .willReturn(new TopicCourseRow(1L, 1L));
 
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(0));
@@ -56,9 +74,11 @@ public class AnswerServiceTest {
                 () -> this.answerService.answerTopic(1L, 1L, answerTopicDTO));
 
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
+        BDDMockito.verify(this.topicService).lockTopicForAnswers(1L);
+        BDDMockito.verify(this.topicService).getTopicReference(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
         BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+        BDDMockito.verify(this.transactionTemplate).execute(any());
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
@@ -70,7 +90,7 @@ public class AnswerServiceTest {
     void shouldFailToAnswerTopicIfSpecifiedTopicNotExists() {
         final AnswerTopicDTO answerTopicDTO = new AnswerTopicDTO("Resposta teste");
 
-        BDDMockito.given(this.topicService.getTopicById(1L))
+        BDDMockito.given(this.topicService.lockTopicForAnswers(1L))
                 .willThrow(new InstanceNotFoundException("O tópico informado não existe"));
 
 
@@ -79,9 +99,10 @@ public class AnswerServiceTest {
                 "O tópico informado não existe");
 
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
+        BDDMockito.verify(this.topicService).lockTopicForAnswers(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
-        BDDMockito.verifyNoInteractions(this.userClientRequest);
+        BDDMockito.verify(this.userClientRequest).getUserById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoInteractions(this.answerRepository);
 
 
@@ -92,9 +113,6 @@ public class AnswerServiceTest {
     void shouldFailToAnswerTopicIfUserServiceReturn404StatusCode() {
         final AnswerTopicDTO answerTopicDTO = new AnswerTopicDTO("Resposta teste");
 
-        BDDMockito.given(this.topicService.getTopicById(1L))
-                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
-
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
 
@@ -104,9 +122,8 @@ public class AnswerServiceTest {
                 "Usuário não encontrado");
 
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
-        BDDMockito.verifyNoMoreInteractions(this.topicService);
+        BDDMockito.verifyNoInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoInteractions(this.answerRepository);
 
@@ -118,8 +135,8 @@ public class AnswerServiceTest {
     void shouldAnswerTopicWithSuccessIfEverythingIsOk() {
         final AnswerTopicDTO answerTopicDTO = new AnswerTopicDTO("Resposta teste");
 
-        BDDMockito.given(this.topicService.getTopicById(1L))
-                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
+        BDDMockito.given(this.topicService.lockTopicForAnswers(1L))
+                .willReturn(new TopicCourseRow(1L, 1L));
 
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(0));
@@ -129,9 +146,13 @@ public class AnswerServiceTest {
                 () -> this.answerService.answerTopic(1L, 1L, answerTopicDTO));
 
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
+        BDDMockito.verify(this.topicService).lockTopicForAnswers(1L);
+        BDDMockito.verify(this.topicService).getTopicReference(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
         BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+        BDDMockito.verify(this.topicService).adjustAnswerCount(1L, 1);
+        BDDMockito.verify(this.eventPublisher).publishEvent(any(TopicActivityEvent.class));
+        BDDMockito.verify(this.eventPublisher).publishEvent(any(TopicStreamEvent.class));
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
@@ -153,7 +174,8 @@ public class AnswerServiceTest {
 
         BDDMockito.verify(this.topicService).getTopicById(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
-        BDDMockito.verifyNoInteractions(this.userClientRequest);
+        BDDMockito.verify(this.userClientRequest).getUserById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoInteractions(this.answerRepository);
 
 
@@ -162,9 +184,6 @@ public class AnswerServiceTest {
 
     @Test
     void shouldFailToMarkAnswerBestIfUserServiceReturn404StatusCode() {
-        BDDMockito.given(this.topicService.getTopicById(1L))
-                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
-
         BDDMockito.given(this.userClientRequest.getUserById(1L)).
                 willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
 
@@ -173,9 +192,8 @@ public class AnswerServiceTest {
                 () -> this.answerService.markBestAnswer(1L, 1L, 1L));
 
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
-        BDDMockito.verifyNoMoreInteractions(this.topicService);
+        BDDMockito.verifyNoInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoInteractions(this.answerRepository);
 
@@ -272,6 +290,8 @@ public class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(1L);
         BDDMockito.verify(this.topicService).saveTopic(any(Topic.class));
         BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+        BDDMockito.verify(this.eventPublisher).publishEvent(any(TopicActivityEvent.class));
+        BDDMockito.verify(this.eventPublisher).publishEvent(any(TopicStreamEvent.class));
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
@@ -330,7 +350,8 @@ public class AnswerServiceTest {
         BDDMockito.verify(this.topicService).getTopicById(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoInteractions(this.answerRepository);
-        BDDMockito.verifyNoInteractions(this.userClientRequest);
+        BDDMockito.verify(this.userClientRequest).getUserById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
 
@@ -356,7 +377,8 @@ public class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
-        BDDMockito.verifyNoInteractions(this.userClientRequest);
+        BDDMockito.verify(this.userClientRequest).getUserById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
 
@@ -366,12 +388,6 @@ public class AnswerServiceTest {
         final AnswerUpdateDTO answerUpdateDTO =
                 new AnswerUpdateDTO("Primeiro teste de edição de uma resposta");
 
-        BDDMockito.given(this.topicService.getTopicById(1L))
-                .willReturn(TestsHelper.TopicHelper.topicList().get(0));
-
-        BDDMockito.given(this.answerRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
-
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
 
@@ -381,11 +397,9 @@ public class AnswerServiceTest {
                         answerUpdateDTO), "Usuário não encontrado");
 
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
-        BDDMockito.verify(this.answerRepository).findById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
-        BDDMockito.verifyNoMoreInteractions(this.topicService);
-        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
+        BDDMockito.verifyNoInteractions(this.topicService);
+        BDDMockito.verifyNoInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -427,7 +441,6 @@ public class AnswerServiceTest {
         final AnswerUpdateDTO answerUpdateDTO =
                 new AnswerUpdateDTO("Primeiro teste de edição de uma resposta");
 
-
         BDDMockito.given(this.topicService.getTopicById(1L))
                 .willReturn(TestsHelper.TopicHelper.topicList().get(0));
 
@@ -492,7 +505,6 @@ public class AnswerServiceTest {
         final AnswerUpdateDTO answerUpdateDTO =
                 new AnswerUpdateDTO("Segundo teste de edição de uma resposta");
 
-
         BDDMockito.given(this.topicService.getTopicById(1L))
                 .willReturn(TestsHelper.TopicHelper.topicList().get(0));
 
@@ -554,9 +566,6 @@ public class AnswerServiceTest {
 
     @Test
     void shouldFailToDeleteAnswerIfUserServiceReturn404StatusCode() {
-        BDDMockito.given(this.answerRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
-
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
 
@@ -566,9 +575,8 @@ public class AnswerServiceTest {
                 "Usuário não encontrado");
 
 
-        BDDMockito.verify(this.answerRepository).findById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
-        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
+        BDDMockito.verifyNoInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
 
@@ -581,7 +589,7 @@ public class AnswerServiceTest {
                 .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(1)));
 
         BDDMockito.given(this.userClientRequest.getUserById(1L))
-                .willThrow(new AnswerServiceException("A resposta fornecida não pertence a esse tópico"));
+                .willReturn(TestsHelper.AuthorHelper.authorList().get(0));
 
 
         Assertions.assertThrows(AnswerServiceException.class,
@@ -637,6 +645,8 @@ public class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(2L);
         BDDMockito.verify(this.answerRepository).delete(any(Answer.class));
+        BDDMockito.verify(this.topicService).adjustAnswerCount(1L, -1);
+        BDDMockito.verify(this.eventPublisher).publishEvent(any(TopicActivityEvent.class));
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
@@ -660,6 +670,7 @@ public class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.answerRepository).delete(any(Answer.class));
+        BDDMockito.verify(this.topicService).adjustAnswerCount(1L, -1);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
@@ -683,6 +694,7 @@ public class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(3L);
         BDDMockito.verify(this.userClientRequest).getUserById(2L);
         BDDMockito.verify(this.answerRepository).delete(any(Answer.class));
+        BDDMockito.verify(this.topicService).adjustAnswerCount(3L, -1);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
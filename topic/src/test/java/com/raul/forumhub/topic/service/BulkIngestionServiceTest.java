@@ -0,0 +1,169 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.dto.request.AnswerBulkCreateDTO;
+import com.raul.forumhub.topic.dto.request.TopicBulkCreateDTO;
+import com.raul.forumhub.topic.dto.response.BulkItemResult;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.exception.InstanceNotFoundException;
+import com.raul.forumhub.topic.repository.AuthorRepository;
+import com.raul.forumhub.topic.repository.BatchInsertRepository;
+import com.raul.forumhub.topic.repository.CourseRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import com.raul.forumhub.topic.util.TestsHelper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+
+@ExtendWith(MockitoExtension.class)
+class BulkIngestionServiceTest {
+
+    @Mock
+    BatchInsertRepository batchInsertRepository;
+
+    @Mock
+    AuthorRepository authorRepository;
+
+    @Mock
+    CourseRepository courseRepository;
+
+    @Mock
+    TopicRepository topicRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    BulkIngestionService bulkIngestionService;
+
+    @BeforeEach
+    void setup() {
+        this.bulkIngestionService = new BulkIngestionService(this.batchInsertRepository, this.authorRepository,
+                this.courseRepository, this.topicRepository, this.transactionTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(), this.eventPublisher, 2);
+    }
+
+    @Test
+    void shouldCreateTopicsInChunksAndReportEachItem() {
+        final List<TopicBulkCreateDTO> topics = List.of(
+                new TopicBulkCreateDTO("Dúvida na utilização do Feign Client",
+                        "Como utilizar o Feign Client para integração do serviço x?", 1L, null),
+                new TopicBulkCreateDTO("", "Como utilizar o Rosa/OpenShift para implantação do serviço x?", 1L, null),
+                new TopicBulkCreateDTO("Dúvida em relação ao teste end-to-end",
+                        "Quais as boas práticas na execução dos testes end-to-end?", 9L, 2L));
+
+        BDDMockito.given(this.authorRepository.findAllById(anySet()))
+                .willReturn(TestsHelper.AuthorHelper.authorList());
+        BDDMockito.given(this.courseRepository.findAllById(anySet()))
+                .willReturn(TestsHelper.CourseHelper.courseList());
+        BDDMockito.given(this.transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        BDDMockito.given(this.batchInsertRepository.insertTopics(anyList()))
+                .willReturn(List.of(10L));
+
+
+        List<BulkItemResult> results = this.bulkIngestionService.createTopics(topics.iterator(), 1L);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(3, results.size()),
+                () -> assertEquals(new BulkItemResult(0, 10L, 201, null), results.get(0)),
+                () -> assertEquals(new BulkItemResult(1, null, 400, "O título não pode ser vazio"), results.get(1)),
+                () -> assertEquals(new BulkItemResult(2, null, 404, "O curso informado não existe"), results.get(2))
+        );
+
+        BDDMockito.verify(this.authorRepository, BDDMockito.times(2)).findAllById(anySet());
+        BDDMockito.verify(this.batchInsertRepository).insertTopics(anyList());
+        BDDMockito.verify(this.eventPublisher).publishEvent(any(TopicActivityEvent.class));
+        BDDMockito.verifyNoMoreInteractions(this.batchInsertRepository);
+
+    }
+
+    @Test
+    void shouldReportWholeChunkAsConflictWhenBatchInsertFails() {
+        final List<AnswerBulkCreateDTO> answers = List.of(
+                new AnswerBulkCreateDTO("Resposta do primeiro tópico", null),
+                new AnswerBulkCreateDTO("Resposta do primeiro tópico", 2L));
+
+        BDDMockito.given(this.topicRepository.existsById(1L)).willReturn(true);
+        BDDMockito.given(this.authorRepository.findAllById(anySet()))
+                .willReturn(TestsHelper.AuthorHelper.authorList());
+        BDDMockito.given(this.transactionTemplate.execute(any()))
+                .willThrow(new DataIntegrityViolationException("Payload conflitante"));
+
+
+        List<BulkItemResult> results = this.bulkIngestionService.answerTopic(1L, answers.iterator(), 1L);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(2, results.size()),
+                () -> assertEquals(409, results.get(0).status()),
+                () -> assertEquals(409, results.get(1).status()),
+                () -> assertNull(results.get(1).id())
+        );
+
+        BDDMockito.verifyNoInteractions(this.batchInsertRepository);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
+
+    }
+
+    @Test
+    void shouldRejectChunkIfTopicIsDeletedBeforeInsert() {
+        final List<AnswerBulkCreateDTO> answers = List.of(
+                new AnswerBulkCreateDTO("Resposta do primeiro tópico", null));
+
+        BDDMockito.given(this.topicRepository.existsById(1L)).willReturn(true);
+        BDDMockito.given(this.authorRepository.findAllById(anySet()))
+                .willReturn(TestsHelper.AuthorHelper.authorList());
+        BDDMockito.given(this.transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        BDDMockito.given(this.topicRepository.lockCourseIdsByIds(List.of(1L))).willReturn(List.of());
+
+
+        List<BulkItemResult> results = this.bulkIngestionService.answerTopic(1L, answers.iterator(), 1L);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(1, results.size()),
+                () -> assertEquals(404, results.get(0).status()),
+                () -> assertEquals("O tópico informado não existe", results.get(0).detail())
+        );
+
+        BDDMockito.verifyNoInteractions(this.batchInsertRepository);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
+
+    }
+
+    @Test
+    void shouldFailToAnswerInBulkIfTopicNotExists() {
+        BDDMockito.given(this.topicRepository.existsById(1L)).willReturn(false);
+
+        Assertions.assertThrows(InstanceNotFoundException.class,
+                () -> this.bulkIngestionService.answerTopic(1L,
+                        List.of(new AnswerBulkCreateDTO("Resposta do primeiro tópico", null)).iterator(), 1L),
+                "O tópico informado não existe");
+
+        BDDMockito.verifyNoInteractions(this.authorRepository);
+        BDDMockito.verifyNoInteractions(this.batchInsertRepository);
+
+    }
+
+}
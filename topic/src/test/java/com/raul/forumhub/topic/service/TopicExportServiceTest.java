@@ -0,0 +1,109 @@
+package com.raul.forumhub.topic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.response.AnswerExportRow;
+import com.raul.forumhub.topic.dto.response.TopicExportRow;
+import com.raul.forumhub.topic.exception.TopicServiceException;
+import com.raul.forumhub.topic.repository.AnswerRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class TopicExportServiceTest {
+
+    @Mock
+    TopicRepository topicRepository;
+
+    @Mock
+    AnswerRepository answerRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    TopicExportService topicExportService;
+
+    @BeforeEach
+    void setup() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.topicExportService = new TopicExportService(this.topicRepository, this.answerRepository,
+                this.transactionManager, objectMapper, 1);
+    }
+
+    @Test
+    void shouldFailToExportIfDateRangeIsInverted() {
+        final LocalDateTime from = LocalDateTime.of(2024, 2, 1, 0, 0);
+        final LocalDateTime to = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        Assertions.assertThrows(TopicServiceException.class,
+                () -> this.topicExportService.export(TopicExportService.Type.TOPICS, TopicExportService.Format.NDJSON,
+                        null, null, from, to),
+                "A data inicial não pode ser posterior à data final");
+
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+        BDDMockito.verifyNoInteractions(this.transactionManager);
+    }
+
+    @Test
+    void shouldStreamTopicsAsNdjson() throws Exception {
+        final LocalDateTime createdAt = LocalDateTime.of(2024, 1, 10, 12, 30);
+
+        BDDMockito.given(this.topicRepository.streamForExport(1L, Status.UNSOLVED, null, null))
+                .willReturn(Stream.of(
+                        new TopicExportRow(1L, "Dúvida", "Pergunta", Status.UNSOLVED, createdAt, 1L, 1L),
+                        new TopicExportRow(2L, "Outra", "Pergunta", Status.UNSOLVED, createdAt, 2L, 1L)));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.topicExportService.export(TopicExportService.Type.TOPICS, TopicExportService.Format.NDJSON,
+                1L, Status.UNSOLVED, null, null).writeTo(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"topic_id\":1,\"title\":\"Dúvida\",\"question\":\"Pergunta\",\"status\":\"UNSOLVED\"," +
+                "\"createdAt\":\"2024-01-10T12:30:00\",\"user_id\":1,\"course_id\":1}", lines[0]);
+
+        BDDMockito.verify(this.topicRepository).streamForExport(1L, Status.UNSOLVED, null, null);
+        BDDMockito.verifyNoInteractions(this.answerRepository);
+        BDDMockito.verify(this.transactionManager).commit(null);
+    }
+
+    @Test
+    void shouldStreamAnswersAsCsvEscapingSpecialCharacters() throws Exception {
+        final LocalDateTime createdAt = LocalDateTime.of(2024, 1, 10, 12, 30);
+
+        BDDMockito.given(this.answerRepository.streamForExport(null, null, null, null))
+                .willReturn(Stream.of(
+                        new AnswerExportRow(1L, 1L, "Use \"final\", sempre", true, createdAt, 2L),
+                        new AnswerExportRow(2L, 1L, "Simples", false, null, 3L)));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.topicExportService.export(TopicExportService.Type.ANSWERS, TopicExportService.Format.CSV,
+                null, null, null, null).writeTo(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("answer_id,topic_id,solution,bestAnswer,createdAt,user_id", lines[0]);
+        assertEquals("1,1,\"Use \"\"final\"\", sempre\",true,2024-01-10T12:30,2", lines[1]);
+        assertEquals("2,1,Simples,false,,3", lines[2]);
+
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.client.UserClientRequest;
+import com.raul.forumhub.topic.domain.Course;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicModerationDTO;
+import com.raul.forumhub.topic.dto.response.GetModerationResultDTO;
+import com.raul.forumhub.topic.dto.response.TopicCourseRow;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.exception.TopicServiceException;
+import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.repository.AnswerRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import com.raul.forumhub.topic.util.TestsHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class TopicModerationServiceTest {
+
+    @Mock
+    TopicRepository topicRepository;
+
+    @Mock
+    AnswerRepository answerRepository;
+
+    @Mock
+    UserClientRequest userClientRequest;
+
+    @Mock
+    CourseService courseService;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    TopicModerationService topicModerationService;
+
+    @BeforeEach
+    void setup() {
+        this.topicModerationService = new TopicModerationService(this.topicRepository, this.answerRepository,
+                this.userClientRequest, this.courseService, this.transactionTemplate, this.eventPublisher, 2);
+    }
+
+    @Test
+    void shouldFailToModerateIfUserIsNotModeratorOrAdmin() {
+        final TopicModerationDTO moderation = new TopicModerationDTO(TopicModerationDTO.Action.DELETE,
+                List.of(1L, 2L), null, null, null);
+
+        BDDMockito.given(this.userClientRequest.getUserById(1L))
+                .willReturn(TestsHelper.AuthorHelper.authorList().get(0));
+
+
+        Assertions.assertThrows(ValidationException.class,
+                () -> this.topicModerationService.moderate(moderation, 1L),
+                "Privilégio insuficiente");
+
+
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+        BDDMockito.verifyNoInteractions(this.answerRepository);
+
+    }
+
+    @Test
+    void shouldFailToModerateIfNeitherIdsNorFilterAreSent() {
+        final TopicModerationDTO moderation = new TopicModerationDTO(TopicModerationDTO.Action.CLOSE,
+                List.of(), null, null, null);
+
+        BDDMockito.given(this.userClientRequest.getUserById(2L))
+                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+
+
+        Assertions.assertThrows(TopicServiceException.class,
+                () -> this.topicModerationService.moderate(moderation, 2L),
+                "Informe os tópicos ou um filtro para a moderação");
+
+
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+
+    }
+
+    @Test
+    void shouldDeleteAnswersBeforeTopicsInBoundedChunks() {
+        final TopicModerationDTO moderation = new TopicModerationDTO(TopicModerationDTO.Action.DELETE,
+                List.of(1L, 2L, 3L), null, null, null);
+
+        BDDMockito.given(this.userClientRequest.getUserById(2L))
+                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        BDDMockito.given(this.topicRepository.deleteByIds(List.of(1L, 2L))).willReturn(2);
+        BDDMockito.given(this.topicRepository.deleteByIds(List.of(3L))).willReturn(1);
+
+
+        GetModerationResultDTO result = this.topicModerationService.moderate(moderation, 2L);
+
+
+        assertEquals(3, result.affectedTopics());
+
+        InOrder inOrder = BDDMockito.inOrder(this.topicRepository, this.answerRepository);
+        inOrder.verify(this.topicRepository).lockIdsByIds(List.of(1L, 2L));
+        inOrder.verify(this.answerRepository).deleteByTopicIds(List.of(1L, 2L));
+        inOrder.verify(this.topicRepository).deleteByIds(List.of(1L, 2L));
+        inOrder.verify(this.topicRepository).lockIdsByIds(List.of(3L));
+        inOrder.verify(this.answerRepository).deleteByTopicIds(List.of(3L));
+        List.of(1L, 2L, 3L).forEach(topic_id -> BDDMockito.then(this.eventPublisher).should().publishEvent(
+                new TopicActivityEvent(TopicActivityEvent.Type.TOPIC_DELETED, topic_id, null, null)));
+        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
+
+    }
+
+    @Test
+    void shouldCloseTopicsMatchingFilterWithKeysetChunks() {
+        final TopicModerationDTO moderation = new TopicModerationDTO(TopicModerationDTO.Action.CLOSE,
+                null, 1L, Status.UNSOLVED, null);
+
+        BDDMockito.given(this.userClientRequest.getUserById(2L))
+                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        BDDMockito.given(this.topicRepository.findIdsByFilter(1L, Status.UNSOLVED, 0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(1L, 4L));
+        BDDMockito.given(this.topicRepository.findIdsByFilter(1L, Status.UNSOLVED, 4L, PageRequest.of(0, 2)))
+                .willReturn(List.of());
+        BDDMockito.given(this.topicRepository.findCourseIdsByIds(List.of(1L, 4L)))
+                .willReturn(List.of(new TopicCourseRow(1L, 1L), new TopicCourseRow(4L, 1L)));
+        BDDMockito.given(this.topicRepository.updateStatusByIds(List.of(1L, 4L), Status.SOLVED)).willReturn(2);
+
+
+        GetModerationResultDTO result = this.topicModerationService.moderate(moderation, 2L);
+
+
+        assertEquals(2, result.affectedTopics());
+
+        BDDMockito.verifyNoInteractions(this.answerRepository);
+        List.of(1L, 4L).forEach(topic_id -> BDDMockito.then(this.eventPublisher).should().publishEvent(
+                TopicActivityEvent.topicUpdated(topic_id, 1L, 1L, null)));
+
+    }
+
+    @Test
+    void shouldPublishPreviousCourseOfEachReassignedTopic() {
+        final TopicModerationDTO moderation = new TopicModerationDTO(TopicModerationDTO.Action.REASSIGN_COURSE,
+                List.of(1L, 2L), null, null, 3L);
+        final Course course = TestsHelper.CourseHelper.courseList().get(2);
+
+        BDDMockito.given(this.userClientRequest.getUserById(2L))
+                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.courseService.getCourseById(3L)).willReturn(course);
+        BDDMockito.given(this.transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        BDDMockito.given(this.topicRepository.findCourseIdsByIds(List.of(1L, 2L)))
+                .willReturn(List.of(new TopicCourseRow(1L, 1L), new TopicCourseRow(2L, 2L)));
+        BDDMockito.given(this.topicRepository.updateCourseByIds(List.of(1L, 2L), course)).willReturn(2);
+
+
+        GetModerationResultDTO result = this.topicModerationService.moderate(moderation, 2L);
+
+
+        assertEquals(2, result.affectedTopics());
+
+        BDDMockito.then(this.eventPublisher).should().publishEvent(TopicActivityEvent.topicUpdated(1L, 1L, 3L, null));
+        BDDMockito.then(this.eventPublisher).should().publishEvent(TopicActivityEvent.topicUpdated(2L, 2L, 3L, null));
+
+    }
+
+}
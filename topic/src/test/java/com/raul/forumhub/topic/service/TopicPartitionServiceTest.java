@@ -0,0 +1,126 @@
+package com.raul.forumhub.topic.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+class TopicPartitionServiceTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    Connection connection;
+
+    @Mock
+    PreparedStatement lockStatement;
+
+    @Mock
+    PreparedStatement unlockStatement;
+
+    @Mock
+    ResultSet lockResult;
+
+    TopicPartitionService topicPartitionService;
+
+    @BeforeEach
+    void setup() {
+        this.topicPartitionService = new TopicPartitionService(this.jdbcTemplate, this.transactionTemplate, 3, 12);
+    }
+
+    @Test
+    void shouldCreateFuturePartitions() {
+        BDDMockito.given(this.jdbcTemplate.queryForObject("SELECT ensure_topic_partitions(?)", Integer.class, 3))
+                .willReturn(2);
+
+        assertEquals(2, this.topicPartitionService.createFuturePartitions());
+
+        BDDMockito.verify(this.jdbcTemplate).queryForObject("SELECT ensure_topic_partitions(?)", Integer.class, 3);
+        BDDMockito.verifyNoMoreInteractions(this.jdbcTemplate);
+    }
+
+    @Test
+    void shouldArchiveOnlyPartitionsOlderThanRetention() {
+        BDDMockito.given(this.jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .willReturn(List.of("topic_2023_04", "topic_2023_05", "topic_2023_06", "topic_2024_05", "topic_default"));
+        BDDMockito.given(this.transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        BDDMockito.given(this.jdbcTemplate.queryForObject(eq("SELECT archive_topic_partition(?)"), eq(Integer.class),
+                        anyString()))
+                .willReturn(5);
+
+        List<String> archived = this.topicPartitionService.archiveOldPartitions(LocalDate.of(2024, 6, 15));
+
+        assertEquals(List.of("topic_2023_04", "topic_2023_05"), archived);
+
+        BDDMockito.verify(this.jdbcTemplate).queryForObject("SELECT archive_topic_partition(?)", Integer.class,
+                "topic_2023_04");
+        BDDMockito.verify(this.jdbcTemplate).queryForObject("SELECT archive_topic_partition(?)", Integer.class,
+                "topic_2023_05");
+    }
+
+    @Test
+    void shouldMaintainPartitionsOnlyWhileHoldingTheAdvisoryLock() throws SQLException {
+        this.stubAdvisoryLock(true);
+        BDDMockito.given(this.connection.prepareStatement("SELECT pg_advisory_unlock(hashtext(?))"))
+                .willReturn(this.unlockStatement);
+        BDDMockito.given(this.unlockStatement.executeQuery()).willReturn(this.lockResult);
+        BDDMockito.given(this.jdbcTemplate.queryForObject("SELECT ensure_topic_partitions(?)", Integer.class, 3))
+                .willReturn(0);
+        BDDMockito.given(this.jdbcTemplate.queryForList(anyString(), eq(String.class))).willReturn(List.of());
+
+        this.topicPartitionService.maintainPartitions();
+
+        InOrder inOrder = BDDMockito.inOrder(this.lockStatement, this.jdbcTemplate, this.unlockStatement);
+        inOrder.verify(this.lockStatement).executeQuery();
+        inOrder.verify(this.jdbcTemplate).queryForObject("SELECT ensure_topic_partitions(?)", Integer.class, 3);
+        inOrder.verify(this.jdbcTemplate).queryForList(anyString(), eq(String.class));
+        inOrder.verify(this.unlockStatement).executeQuery();
+    }
+
+    @Test
+    void shouldSkipMaintenanceWhenAnotherInstanceHoldsTheLock() throws SQLException {
+        this.stubAdvisoryLock(false);
+
+        this.topicPartitionService.maintainPartitions();
+
+        BDDMockito.verify(this.jdbcTemplate).execute(any(ConnectionCallback.class));
+        BDDMockito.verifyNoMoreInteractions(this.jdbcTemplate);
+        BDDMockito.verify(this.connection, BDDMockito.never()).prepareStatement("SELECT pg_advisory_unlock(hashtext(?))");
+    }
+
+    private void stubAdvisoryLock(boolean acquired) throws SQLException {
+        BDDMockito.given(this.jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .willAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(this.connection));
+        BDDMockito.given(this.connection.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))"))
+                .willReturn(this.lockStatement);
+        BDDMockito.given(this.lockStatement.executeQuery()).willReturn(this.lockResult);
+        BDDMockito.given(this.lockResult.next()).willReturn(true);
+        BDDMockito.given(this.lockResult.getBoolean(1)).willReturn(acquired);
+    }
+
+}
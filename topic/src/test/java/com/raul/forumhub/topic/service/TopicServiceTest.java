@@ -6,10 +6,13 @@ import com.raul.forumhub.topic.domain.Topic;
 import com.raul.forumhub.topic.dto.request.TopicCreateDTO;
 import com.raul.forumhub.topic.dto.request.TopicUpdateDTO;
 import com.raul.forumhub.topic.dto.response.GetTopicDTO;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.event.TopicStreamEvent;
 import com.raul.forumhub.topic.exception.InstanceNotFoundException;
 import com.raul.forumhub.topic.exception.RestClientException;
 import com.raul.forumhub.topic.exception.TopicServiceException;
 import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.repository.AnswerRepository;
 import com.raul.forumhub.topic.repository.TopicRepository;
 import com.raul.forumhub.topic.util.TestsHelper;
 import jakarta.validation.ConstraintViolationException;
@@ -18,15 +21,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,9 +52,24 @@ public class TopicServiceTest {
     @Mock
     CourseService courseService;
 
+    @Mock
+    AnswerRepository answerRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     TopicService topicService;
 
+    @BeforeEach
+    void setup() {
+        BDDMockito.lenient().when(this.transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
 
     @Test
     void shouldFailIfTitlePropertyIsEmptyWhenCreateTopic() {
@@ -213,6 +236,8 @@ public class TopicServiceTest {
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
         BDDMockito.verify(this.courseService).getCourseById(1L);
         BDDMockito.verify(this.topicRepository).save(any(Topic.class));
+        BDDMockito.verify(this.eventPublisher).publishEvent(new TopicActivityEvent(
+                TopicActivityEvent.Type.TOPIC_CREATED, null, 1L, 1L));
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.courseService);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
@@ -250,6 +275,44 @@ public class TopicServiceTest {
     }
 
 
+    @Test
+    void shouldReturnTopicsCreatedInPeriodWithSuccessful() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        List<Topic> topicList = TestsHelper.TopicHelper.topicListWithAnswers();
+
+        BDDMockito.given(this.topicRepository.findByCreatedAtGreaterThanEqualAndCreatedAtLessThan(
+                        from, LocalDateTime.of(9999, 12, 31, 0, 0), pageable))
+                .willReturn(new PageImpl<>(topicList, pageable, 3));
+
+
+        Page<GetTopicDTO> topicPage = this.topicService.topicListByPeriod(from, null, pageable);
+
+
+        assertEquals(3, topicPage.getContent().size());
+
+        BDDMockito.verify(this.topicRepository).findByCreatedAtGreaterThanEqualAndCreatedAtLessThan(
+                from, LocalDateTime.of(9999, 12, 31, 0, 0), pageable);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+
+    @Test
+    void shouldFailToReturnTopicsIfPeriodIsInverted() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
+
+        Assertions.assertThrows(TopicServiceException.class,
+                () -> this.topicService.topicListByPeriod(LocalDateTime.of(2024, 2, 1, 0, 0),
+                        LocalDateTime.of(2024, 1, 1, 0, 0), pageable),
+                "A data inicial não pode ser posterior à data final");
+
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+
+    }
+
+
     @Test
     void shouldReturnAllTopicsSortedDescendantByCreateDateWithSuccessful() {
         Pageable pageable = PageRequest.of(0, 10,
@@ -404,6 +467,28 @@ public class TopicServiceTest {
     }
 
 
+    @DisplayName("Should publish a view activity when the topic is viewed")
+    @Test
+    void shouldPublishViewActivityWhenTopicIsViewed() {
+        Topic topic = TestsHelper.TopicHelper.topicList().get(0);
+
+        BDDMockito.given(this.topicRepository.findById(1L))
+                .willReturn(Optional.of(topic));
+
+
+        Topic viewed = this.topicService.viewTopic(1L);
+
+
+        assertEquals(topic, viewed);
+
+        BDDMockito.verify(this.topicRepository).findById(1L);
+        BDDMockito.verify(this.eventPublisher).publishEvent(new TopicActivityEvent(TopicActivityEvent.Type.TOPIC_VIEWED,
+                1L, topic.getCourse().getId(), null));
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+
     @Test
     void shouldFailIfTitlePropertyIsEmptyWhenEditTopic() {
         final TopicUpdateDTO topicUpdateDTO = new TopicUpdateDTO(
@@ -501,7 +586,8 @@ public class TopicServiceTest {
         BDDMockito.verify(this.topicRepository, BDDMockito.never()).save(any(Topic.class));
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.courseService);
-        BDDMockito.verifyNoInteractions(this.userClientRequest);
+        BDDMockito.verify(this.userClientRequest).getUserById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
 
@@ -514,12 +600,6 @@ public class TopicServiceTest {
                 Status.UNSOLVED, 1L
         );
 
-        BDDMockito.given(this.topicRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(0)));
-
-        BDDMockito.given(this.courseService.getCourseById(1L))
-                .willReturn(TestsHelper.CourseHelper.courseList().get(0));
-
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
 
@@ -528,12 +608,10 @@ public class TopicServiceTest {
                 "Usuário não encontrado");
 
 
-        BDDMockito.verify(this.topicRepository).findById(1L);
-        BDDMockito.verify(this.courseService).getCourseById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
         BDDMockito.verify(this.topicRepository, BDDMockito.never()).save(any(Topic.class));
-        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
-        BDDMockito.verifyNoMoreInteractions(this.courseService);
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+        BDDMockito.verifyNoInteractions(this.courseService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
 
@@ -632,6 +710,8 @@ public class TopicServiceTest {
         BDDMockito.verify(this.courseService).getCourseById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
         BDDMockito.verify(this.topicRepository).save(any(Topic.class));
+        BDDMockito.verify(this.eventPublisher).publishEvent(any(TopicStreamEvent.class));
+        BDDMockito.verify(this.eventPublisher).publishEvent(TopicActivityEvent.topicUpdated(1L, 1L, 1L, 1L));
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.courseService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
@@ -639,6 +719,32 @@ public class TopicServiceTest {
     }
 
 
+    @Test
+    void shouldPublishPreviousAndNewCourseWhenTopicIsMovedToAnotherCourse() {
+        final TopicUpdateDTO topicUpdateDTO = new TopicUpdateDTO(
+                "Dúvida na utilização do Feign Client",
+                "Como utilizar o Feign Client para integração do serviço x?",
+                Status.SOLVED, 2L
+        );
+
+        BDDMockito.given(this.topicRepository.findById(1L))
+                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(0)));
+
+        BDDMockito.given(this.courseService.getCourseById(2L))
+                .willReturn(TestsHelper.CourseHelper.courseList().get(1));
+
+        BDDMockito.given(this.userClientRequest.getUserById(1L))
+                .willReturn(TestsHelper.AuthorHelper.authorList().get(0));
+
+        GetTopicDTO updated = this.topicService.updateTopic(1L, 1L, topicUpdateDTO);
+
+
+        assertEquals(Status.SOLVED, updated.status());
+        BDDMockito.verify(this.eventPublisher).publishEvent(TopicActivityEvent.topicUpdated(1L, 1L, 2L, 1L));
+
+    }
+
+
     @Test
     void userADMShouldEditTopicOfOtherAuthorWithSuccess() {
         final TopicUpdateDTO topicUpdateDTO = new TopicUpdateDTO(
@@ -705,10 +811,32 @@ public class TopicServiceTest {
 
 
     @Test
-    void shouldFailToDeleteTopicIfUserServiceReturn404StatusCode() {
-        BDDMockito.given(this.topicRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(0)));
+    void shouldFailToDeleteTopicIfNotExists() {
+        BDDMockito.given(this.topicRepository.lockAuthorIdById(5L))
+                .willReturn(Optional.empty());
+
+        BDDMockito.willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(this.transactionTemplate).executeWithoutResult(any());
+
+
+        Assertions.assertThrows(InstanceNotFoundException.class,
+                () -> this.topicService.deleteTopic(5L, 1L),
+                "O tópico informado não existe");
 
+
+        BDDMockito.verify(this.topicRepository).lockAuthorIdById(5L);
+        BDDMockito.verify(this.userClientRequest).getUserById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
+        BDDMockito.verifyNoInteractions(this.answerRepository);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+
+    @Test
+    void shouldFailToDeleteTopicIfUserServiceReturn404StatusCode() {
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
 
@@ -718,10 +846,9 @@ public class TopicServiceTest {
                 "Usuário não encontrado");
 
 
-        BDDMockito.verify(this.topicRepository).findById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
-        BDDMockito.verify(this.topicRepository, Mockito.never()).delete(any(Topic.class));
-        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+        BDDMockito.verifyNoInteractions(this.answerRepository);
+        BDDMockito.verifyNoInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -729,21 +856,26 @@ public class TopicServiceTest {
 
     @Test
     void shouldFailIfBasicUserAttemptDeleteTopicOfOtherAuthor() {
-        BDDMockito.given(this.topicRepository.findById(2L))
-                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(1)));
+        BDDMockito.given(this.topicRepository.lockAuthorIdById(2L))
+                .willReturn(Optional.of(2L));
 
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(0));
 
+        BDDMockito.willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(this.transactionTemplate).executeWithoutResult(any());
+
 
         Assertions.assertThrows(ValidationException.class,
                 () -> this.topicService.deleteTopic(2L, 1L),
                 "Privilégio insuficiente");
 
 
-        BDDMockito.verify(this.topicRepository).findById(2L);
+        BDDMockito.verify(this.topicRepository).lockAuthorIdById(2L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
-        BDDMockito.verify(this.topicRepository, Mockito.never()).delete(any(Topic.class));
+        BDDMockito.verifyNoInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
@@ -752,20 +884,27 @@ public class TopicServiceTest {
 
     @Test
     void topicAuthorShouldDeleteSpecifiedTopicWithSuccess() {
-        BDDMockito.given(this.topicRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(0)));
+        BDDMockito.given(this.topicRepository.lockAuthorIdById(1L))
+                .willReturn(Optional.of(1L));
 
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(0));
 
 
+        BDDMockito.willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(this.transactionTemplate).executeWithoutResult(any());
+
         Assertions.assertDoesNotThrow(
                 () -> this.topicService.deleteTopic(1L, 1L));
 
 
-        BDDMockito.verify(this.topicRepository).findById(1L);
+        BDDMockito.verify(this.topicRepository).lockAuthorIdById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
-        BDDMockito.verify(this.topicRepository).delete(any(Topic.class));
+        BDDMockito.verify(this.answerRepository).deleteByTopicIds(List.of(1L));
+        BDDMockito.verify(this.topicRepository).deleteByIds(List.of(1L));
+        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
@@ -775,19 +914,26 @@ public class TopicServiceTest {
 
     @Test
     void userADMShouldDeleteTopicOfOtherAuthorWithSuccess() {
-        BDDMockito.given(this.topicRepository.findById(2L))
-                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(1)));
+        BDDMockito.given(this.topicRepository.lockAuthorIdById(2L))
+                .willReturn(Optional.of(2L));
 
         BDDMockito.given(this.userClientRequest.getUserById(3L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
 
 
+        BDDMockito.willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(this.transactionTemplate).executeWithoutResult(any());
+
         Assertions.assertDoesNotThrow(() -> this.topicService.deleteTopic(2L, 3L));
 
 
-        BDDMockito.verify(this.topicRepository).findById(2L);
+        BDDMockito.verify(this.topicRepository).lockAuthorIdById(2L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
-        BDDMockito.verify(this.topicRepository).delete(any(Topic.class));
+        BDDMockito.verify(this.answerRepository).deleteByTopicIds(List.of(2L));
+        BDDMockito.verify(this.topicRepository).deleteByIds(List.of(2L));
+        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
@@ -796,19 +942,26 @@ public class TopicServiceTest {
 
     @Test
     void userMODShouldDeleteTopicOfOtherAuthorWithSuccess() {
-        BDDMockito.given(this.topicRepository.findById(3L))
-                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(2)));
+        BDDMockito.given(this.topicRepository.lockAuthorIdById(3L))
+                .willReturn(Optional.of(4L));
 
         BDDMockito.given(this.userClientRequest.getUserById(2L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
 
 
+        BDDMockito.willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(this.transactionTemplate).executeWithoutResult(any());
+
         Assertions.assertDoesNotThrow(() -> this.topicService.deleteTopic(3L, 2L));
 
 
-        BDDMockito.verify(this.topicRepository).findById(3L);
+        BDDMockito.verify(this.topicRepository).lockAuthorIdById(3L);
         BDDMockito.verify(this.userClientRequest).getUserById(2L);
-        BDDMockito.verify(this.topicRepository).delete(any(Topic.class));
+        BDDMockito.verify(this.answerRepository).deleteByTopicIds(List.of(3L));
+        BDDMockito.verify(this.topicRepository).deleteByIds(List.of(3L));
+        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
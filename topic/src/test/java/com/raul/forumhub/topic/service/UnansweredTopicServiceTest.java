@@ -0,0 +1,146 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.dto.response.UnansweredTopicDTO;
+import com.raul.forumhub.topic.dto.response.UnansweredTopicsPage;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.exception.TopicServiceException;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+class UnansweredTopicServiceTest {
+
+    private static final LocalDateTime QUEUE_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Mock
+    TopicRepository topicRepository;
+
+    UnansweredTopicService unansweredTopicService;
+
+    @BeforeEach
+    void setup() {
+        this.unansweredTopicService = new UnansweredTopicService(this.topicRepository, 3, Duration.ofMinutes(1));
+    }
+
+
+    @DisplayName("Should serve the head of the queue from memory until it's invalidated")
+    @Test
+    void shouldServeHeadFromMemoryUntilInvalidated() {
+        BDDMockito.given(this.topicRepository.findUnansweredByCourse(1L, QUEUE_START, 0L, PageRequest.of(0, 3)))
+                .willReturn(topics(1, 2));
+
+        this.unansweredTopicService.unansweredTopics(1L, null, 2);
+        UnansweredTopicsPage cached = this.unansweredTopicService.unansweredTopics(1L, null, 3);
+
+        assertAll(
+                () -> assertEquals(2, cached.topics().size()),
+                () -> assertNull(cached.next_cursor())
+        );
+        BDDMockito.verify(this.topicRepository).findUnansweredByCourse(1L, QUEUE_START, 0L, PageRequest.of(0, 3));
+
+        this.unansweredTopicService.onTopicActivity(
+                new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_CREATED, 1L, 1L, 1L));
+        this.unansweredTopicService.unansweredTopics(1L, null, 2);
+
+        BDDMockito.verify(this.topicRepository, BDDMockito.times(2))
+                .findUnansweredByCourse(1L, QUEUE_START, 0L, PageRequest.of(0, 3));
+    }
+
+    @DisplayName("Should keep the cached head of other courses when an answer is created")
+    @Test
+    void shouldKeepHeadOfOtherCoursesWhenAnswerIsCreated() {
+        BDDMockito.given(this.topicRepository.findUnansweredByCourse(eq(1L), any(), any(), any()))
+                .willReturn(topics(1));
+
+        this.unansweredTopicService.unansweredTopics(1L, null, 1);
+        this.unansweredTopicService.onTopicActivity(
+                new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_CREATED, 9L, 2L, 1L));
+        this.unansweredTopicService.unansweredTopics(1L, null, 1);
+
+        BDDMockito.verify(this.topicRepository).findUnansweredByCourse(eq(1L), any(), any(), any());
+    }
+
+    @DisplayName("Should drop the cached head of both courses when a topic is moved or closed")
+    @Test
+    void shouldDropHeadOfPreviousAndNewCourseWhenTopicIsUpdated() {
+        BDDMockito.given(this.topicRepository.findUnansweredByCourse(any(), any(), any(), any()))
+                .willReturn(topics(1));
+
+        this.unansweredTopicService.unansweredTopics(1L, null, 1);
+        this.unansweredTopicService.unansweredTopics(2L, null, 1);
+        this.unansweredTopicService.unansweredTopics(3L, null, 1);
+        this.unansweredTopicService.onTopicActivity(TopicActivityEvent.topicUpdated(1L, 1L, 2L, 1L));
+        this.unansweredTopicService.unansweredTopics(1L, null, 1);
+        this.unansweredTopicService.unansweredTopics(2L, null, 1);
+        this.unansweredTopicService.unansweredTopics(3L, null, 1);
+
+        BDDMockito.verify(this.topicRepository, BDDMockito.times(2))
+                .findUnansweredByCourse(eq(1L), any(), any(), any());
+        BDDMockito.verify(this.topicRepository, BDDMockito.times(2))
+                .findUnansweredByCourse(eq(2L), any(), any(), any());
+        BDDMockito.verify(this.topicRepository).findUnansweredByCourse(eq(3L), any(), any(), any());
+    }
+
+    @DisplayName("Should page past the head with the keyset cursor")
+    @Test
+    void shouldPagePastHeadWithKeysetCursor() {
+        BDDMockito.given(this.topicRepository.findUnansweredByCourse(1L, QUEUE_START, 0L, PageRequest.of(0, 3)))
+                .willReturn(topics(1, 2, 3));
+        UnansweredTopicsPage first = this.unansweredTopicService.unansweredTopics(1L, null, 3);
+
+        UnansweredTopicDTO last = first.topics().get(2);
+        BDDMockito.given(this.topicRepository.findUnansweredByCourse(1L, last.createdAt(), 3L, PageRequest.of(0, 3)))
+                .willReturn(topics(4));
+        UnansweredTopicsPage second = this.unansweredTopicService.unansweredTopics(1L, first.next_cursor(), 3);
+
+        assertAll(
+                () -> assertNotNull(first.next_cursor()),
+                () -> assertEquals(List.of(4L), second.topics().stream().map(UnansweredTopicDTO::id).toList()),
+                () -> assertNull(second.next_cursor())
+        );
+    }
+
+    @DisplayName("Should fail if the page size is out of range")
+    @Test
+    void shouldFailIfPageSizeIsOutOfRange() {
+        Assertions.assertThrows(TopicServiceException.class,
+                () -> this.unansweredTopicService.unansweredTopics(1L, null, 0));
+        Assertions.assertThrows(TopicServiceException.class,
+                () -> this.unansweredTopicService.unansweredTopics(1L, null, 101));
+
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+    }
+
+    @DisplayName("Should fail if the cursor is malformed")
+    @Test
+    void shouldFailIfCursorIsMalformed() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> this.unansweredTopicService.unansweredTopics(1L, "cursor-invalido", 10));
+
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+    }
+
+    private static List<UnansweredTopicDTO> topics(long... ids) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        return LongStream.of(ids).mapToObj(id -> new UnansweredTopicDTO(id, "Dúvida " + id,
+                "Pergunta " + id, createdAt.plusMinutes(id), 1L, 1L)).toList();
+    }
+
+}
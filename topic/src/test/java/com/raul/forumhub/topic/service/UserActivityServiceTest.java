@@ -0,0 +1,114 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.dto.response.UserActivityDTO;
+import com.raul.forumhub.topic.dto.response.UserActivityPage;
+import com.raul.forumhub.topic.exception.TopicServiceException;
+import com.raul.forumhub.topic.repository.AnswerRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+class UserActivityServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private static final LocalDateTime START = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Mock
+    TopicRepository topicRepository;
+
+    @Mock
+    AnswerRepository answerRepository;
+
+    @InjectMocks
+    UserActivityService userActivityService;
+
+
+    @DisplayName("Should merge topics and answers newest first and return a cursor when there's more activity")
+    @Test
+    void shouldMergeTopicsAndAnswersNewestFirst() {
+        BDDMockito.given(this.topicRepository.findActivityByAuthor(1L, START, Long.MAX_VALUE, PageRequest.of(0, 4)))
+                .willReturn(List.of(topic(5L, NOW.minusMinutes(1)), topic(4L, NOW.minusMinutes(10))));
+        BDDMockito.given(this.answerRepository.findActivityByAuthor(1L, START, Long.MAX_VALUE, PageRequest.of(0, 4)))
+                .willReturn(List.of(answer(9L, NOW), answer(8L, NOW.minusMinutes(5)), answer(7L, NOW.minusMinutes(20))));
+
+
+        UserActivityPage page = this.userActivityService.userActivity(1L, null, 3);
+
+
+        assertAll(
+                () -> assertEquals(List.of("ANSWER:9", "TOPIC:5", "ANSWER:8"), keys(page)),
+                () -> assertNotNull(page.next_cursor())
+        );
+        BDDMockito.verify(this.topicRepository).findActivityByAuthor(eq(1L), any(), any(), any());
+        BDDMockito.verify(this.answerRepository).findActivityByAuthor(eq(1L), any(), any(), any());
+    }
+
+    @DisplayName("Should resume from the cursor without repeating rows that share its timestamp")
+    @Test
+    void shouldResumeFromCursorAcrossSourcesWithSameTimestamp() {
+        BDDMockito.given(this.topicRepository.findActivityByAuthor(1L, START, Long.MAX_VALUE, PageRequest.of(0, 2)))
+                .willReturn(List.of(topic(2L, NOW), topic(1L, NOW.minusMinutes(1))));
+        BDDMockito.given(this.answerRepository.findActivityByAuthor(1L, START, Long.MAX_VALUE, PageRequest.of(0, 2)))
+                .willReturn(List.of(answer(3L, NOW)));
+        UserActivityPage first = this.userActivityService.userActivity(1L, null, 1);
+
+        BDDMockito.given(this.topicRepository.findActivityByAuthor(1L, NOW, Long.MAX_VALUE, PageRequest.of(0, 3)))
+                .willReturn(List.of(topic(2L, NOW), topic(1L, NOW.minusMinutes(1))));
+        BDDMockito.given(this.answerRepository.findActivityByAuthor(1L, NOW, 3L, PageRequest.of(0, 3)))
+                .willReturn(List.of());
+        UserActivityPage second = this.userActivityService.userActivity(1L, first.next_cursor(), 2);
+
+        assertAll(
+                () -> assertEquals(List.of("ANSWER:3"), keys(first)),
+                () -> assertEquals(List.of("TOPIC:2", "TOPIC:1"), keys(second)),
+                () -> assertNull(second.next_cursor())
+        );
+    }
+
+    @DisplayName("Should fail if the page size is out of range")
+    @Test
+    void shouldFailIfPageSizeIsOutOfRange() {
+        Assertions.assertThrows(TopicServiceException.class,
+                () -> this.userActivityService.userActivity(1L, null, 0));
+
+        BDDMockito.verifyNoInteractions(this.topicRepository, this.answerRepository);
+    }
+
+    @DisplayName("Should fail if the cursor is malformed")
+    @Test
+    void shouldFailIfCursorIsMalformed() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> this.userActivityService.userActivity(1L, "cursor-invalido", 10));
+
+        BDDMockito.verifyNoInteractions(this.topicRepository, this.answerRepository);
+    }
+
+    private static UserActivityDTO topic(Long id, LocalDateTime createdAt) {
+        return new UserActivityDTO("TOPIC", id, id, "Dúvida " + id, createdAt);
+    }
+
+    private static UserActivityDTO answer(Long id, LocalDateTime createdAt) {
+        return new UserActivityDTO("ANSWER", id, 1L, "Resposta " + id, createdAt);
+    }
+
+    private static List<String> keys(UserActivityPage page) {
+        return page.activity().stream().map(activity -> activity.type() + ":" + activity.id()).toList();
+    }
+
+}
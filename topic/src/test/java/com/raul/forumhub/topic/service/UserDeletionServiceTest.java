@@ -0,0 +1,162 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.repository.UserDeletionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class UserDeletionServiceTest {
+
+    @Mock
+    UserDeletionRepository userDeletionRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    Connection connection;
+
+    @Mock
+    PreparedStatement lockStatement;
+
+    @Mock
+    PreparedStatement unlockStatement;
+
+    @Mock
+    ResultSet lockResult;
+
+    UserDeletionService userDeletionService;
+
+    @BeforeEach
+    void setup() {
+        this.userDeletionService = new UserDeletionService(this.userDeletionRepository, this.transactionTemplate,
+                this.jdbcTemplate, 2, 20);
+    }
+
+
+    @DisplayName("Should reassign content in chunks until a short chunk and then mark the deletion as reassigned")
+    @Test
+    void shouldReassignContentInChunksAndMarkDeletion() throws SQLException {
+        this.stubAdvisoryLock(true);
+        this.stubTransactions();
+        BDDMockito.given(this.userDeletionRepository.findPendingUserIds(20)).willReturn(List.of(2L));
+        BDDMockito.given(this.userDeletionRepository.findTombstoneId()).willReturn(Optional.of(4L));
+        BDDMockito.given(this.userDeletionRepository.reassignTopics(2L, 4L, 2)).willReturn(2, 2, 1);
+        BDDMockito.given(this.userDeletionRepository.reassignAnswers(2L, 4L, 2)).willReturn(0);
+
+        this.userDeletionService.propagateDeletions();
+
+        BDDMockito.verify(this.userDeletionRepository, times(3)).reassignTopics(2L, 4L, 2);
+        BDDMockito.verify(this.userDeletionRepository).reassignAnswers(2L, 4L, 2);
+        BDDMockito.verify(this.userDeletionRepository).markReassigned(2L);
+    }
+
+    @DisplayName("Should reassign archived content before marking the deletion, so the user delete isn't blocked")
+    @Test
+    void shouldReassignArchivedContentBeforeMarkingDeletion() throws SQLException {
+        this.stubAdvisoryLock(true);
+        this.stubTransactions();
+        BDDMockito.given(this.userDeletionRepository.findPendingUserIds(20)).willReturn(List.of(3L));
+        BDDMockito.given(this.userDeletionRepository.findTombstoneId()).willReturn(Optional.of(4L));
+        BDDMockito.given(this.userDeletionRepository.reassignTopics(3L, 4L, 2)).willReturn(0);
+        BDDMockito.given(this.userDeletionRepository.reassignAnswers(3L, 4L, 2)).willReturn(1);
+        BDDMockito.given(this.userDeletionRepository.reassignArchived(3L, 4L)).willReturn(5);
+
+        this.userDeletionService.propagateDeletions();
+
+        InOrder inOrder = BDDMockito.inOrder(this.userDeletionRepository);
+        inOrder.verify(this.userDeletionRepository).reassignArchived(3L, 4L);
+        inOrder.verify(this.userDeletionRepository).markReassigned(3L);
+    }
+
+    @DisplayName("Should leave deletions pending when the tombstone author doesn't exist")
+    @Test
+    void shouldLeaveDeletionsPendingWithoutTombstone() throws SQLException {
+        this.stubAdvisoryLock(true);
+        BDDMockito.given(this.userDeletionRepository.findPendingUserIds(20)).willReturn(List.of(2L));
+        BDDMockito.given(this.userDeletionRepository.findTombstoneId()).willReturn(Optional.empty());
+
+        this.userDeletionService.propagateDeletions();
+
+        BDDMockito.verify(this.userDeletionRepository, never()).reassignTopics(anyLong(), anyLong(), anyInt());
+        BDDMockito.verify(this.userDeletionRepository, never()).reassignArchived(anyLong(), anyLong());
+        BDDMockito.verify(this.userDeletionRepository, never()).markReassigned(anyLong());
+    }
+
+    @DisplayName("Should do nothing when there are no pending deletions")
+    @Test
+    void shouldDoNothingWithoutPendingDeletions() throws SQLException {
+        this.stubAdvisoryLock(true);
+        BDDMockito.given(this.userDeletionRepository.findPendingUserIds(20)).willReturn(List.of());
+
+        this.userDeletionService.propagateDeletions();
+
+        BDDMockito.verify(this.userDeletionRepository, never()).findTombstoneId();
+        BDDMockito.verifyNoInteractions(this.transactionTemplate);
+    }
+
+    @DisplayName("Should skip propagation while another instance holds the advisory lock")
+    @Test
+    void shouldSkipPropagationWhenAnotherInstanceHoldsTheLock() throws SQLException {
+        this.stubAdvisoryLock(false);
+
+        this.userDeletionService.propagateDeletions();
+
+        BDDMockito.verifyNoInteractions(this.userDeletionRepository);
+        BDDMockito.verifyNoInteractions(this.transactionTemplate);
+        BDDMockito.verify(this.connection, never()).prepareStatement("SELECT pg_advisory_unlock(hashtext(?))");
+    }
+
+    private void stubAdvisoryLock(boolean acquired) throws SQLException {
+        BDDMockito.given(this.jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .willAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(this.connection));
+        BDDMockito.given(this.connection.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))"))
+                .willReturn(this.lockStatement);
+        BDDMockito.given(this.lockStatement.executeQuery()).willReturn(this.lockResult);
+        BDDMockito.given(this.lockResult.next()).willReturn(true);
+        BDDMockito.given(this.lockResult.getBoolean(1)).willReturn(acquired);
+        if (acquired) {
+            BDDMockito.given(this.connection.prepareStatement("SELECT pg_advisory_unlock(hashtext(?))"))
+                    .willReturn(this.unlockStatement);
+            BDDMockito.given(this.unlockStatement.executeQuery()).willReturn(this.lockResult);
+        }
+    }
+
+    private void stubTransactions() {
+        BDDMockito.given(this.transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        BDDMockito.willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(this.transactionTemplate).executeWithoutResult(any());
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.raul.forumhub.topic.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.event.TopicStreamEvent;
+import com.raul.forumhub.topic.exception.InstanceNotFoundException;
+import com.raul.forumhub.topic.exception.TopicServiceException;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class TopicEventBroadcasterTest {
+
+    @Mock
+    TopicRepository topicRepository;
+
+    TopicEventsProperties properties;
+
+    SimpleMeterRegistry meterRegistry;
+
+    TopicEventBroadcaster topicEventBroadcaster;
+
+    @BeforeEach
+    void setup() {
+        this.properties = new TopicEventsProperties();
+        this.properties.setMaxSubscribers(1);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.topicEventBroadcaster = new TopicEventBroadcaster(this.topicRepository, new ObjectMapper(), this.properties,
+                this.meterRegistry);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.topicEventBroadcaster.shutdown();
+    }
+
+
+    @DisplayName("Should fail to subscribe if the topic doesn't exist")
+    @Test
+    void shouldFailToSubscribeIfTopicNotExists() {
+        BDDMockito.given(this.topicRepository.existsById(1L)).willReturn(false);
+
+        Assertions.assertThrows(InstanceNotFoundException.class, () -> this.topicEventBroadcaster.subscribe(1L),
+                "O tópico informado não existe");
+    }
+
+    @DisplayName("Should refuse subscribers above the configured limit")
+    @Test
+    void shouldRefuseSubscribersAboveLimit() {
+        BDDMockito.given(this.topicRepository.existsById(1L)).willReturn(true);
+
+        assertNotNull(this.topicEventBroadcaster.subscribe(1L));
+        Assertions.assertThrows(TopicServiceException.class, () -> this.topicEventBroadcaster.subscribe(1L));
+        assertEquals(1.0, this.meterRegistry.get("forumhub.topic.events.subscribers").gauge().value());
+    }
+
+    @SneakyThrows
+    @DisplayName("Should drop the oldest buffered event and ask the client to resync")
+    @Test
+    void shouldDropOldestEventAndAskClientToResync() {
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+        List<Runnable> drains = new ArrayList<>();
+        Executor executor = drains::add;
+        TopicEventSubscriber subscriber = new TopicEventSubscriber(1L, emitter, 2);
+
+        assertTrue(subscriber.offer(SseEmitter.event().name("answer-created").data("1"), executor));
+        assertTrue(subscriber.offer(SseEmitter.event().name("answer-created").data("2"), executor));
+        assertFalse(subscriber.offer(SseEmitter.event().name("answer-created").data("3"), executor));
+        subscriber.heartbeat(executor);
+
+        assertEquals(1, drains.size());
+        drains.get(0).run();
+
+        BDDMockito.verify(emitter, BDDMockito.times(3)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @SneakyThrows
+    @DisplayName("Should close the subscriber when the client is gone")
+    @Test
+    void shouldCloseSubscriberWhenClientIsGone() {
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+        BDDMockito.willThrow(new IllegalStateException("ResponseBodyEmitter has already completed"))
+                .given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        TopicEventSubscriber subscriber = new TopicEventSubscriber(1L, emitter, 2);
+
+        subscriber.offer(SseEmitter.event().comment("connected"), Runnable::run);
+
+        assertTrue(subscriber.isClosed());
+        BDDMockito.verify(emitter).completeWithError(any(IllegalStateException.class));
+    }
+
+    @SneakyThrows
+    @DisplayName("Should drop a subscriber blocked on a write and replace its dispatch thread")
+    @Test
+    void shouldDropSlowSubscriberAndReplaceItsDispatchThread() {
+        this.properties.setSendTimeout(Duration.ofMillis(1));
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+        BDDMockito.willAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        TopicEventSubscriber subscriber = new TopicEventSubscriber(1L, emitter, 2);
+        this.topicEventBroadcaster.register(subscriber);
+
+        this.topicEventBroadcaster.onTopicStreamEvent(new TopicStreamEvent(TopicStreamEvent.Type.TOPIC_UPDATED, 1L, "{}"));
+        this.awaitSending(subscriber, true);
+        Thread.sleep(10);
+        this.topicEventBroadcaster.heartbeat();
+
+        assertAll(
+                () -> assertTrue(subscriber.isClosed()),
+                () -> assertEquals(5, this.topicEventBroadcaster.dispatchThreads()),
+                () -> assertEquals(1.0, this.meterRegistry.get("forumhub.topic.events.slow-subscribers").counter().count())
+        );
+
+        release.countDown();
+        this.awaitSending(subscriber, false);
+        this.topicEventBroadcaster.heartbeat();
+
+        assertEquals(4, this.topicEventBroadcaster.dispatchThreads());
+        BDDMockito.verify(emitter).complete();
+    }
+
+    @SneakyThrows
+    private void awaitSending(TopicEventSubscriber subscriber, boolean sending) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscriber.isSending() != sending && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(sending, subscriber.isSending());
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.raul.forumhub.topic.trending;
+
+import com.raul.forumhub.topic.dto.response.TrendingTopicDTO;
+import com.raul.forumhub.topic.event.TopicActivityEvent;
+import com.raul.forumhub.topic.repository.AnswerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingTopicEngineTest {
+
+    @Mock
+    AnswerRepository answerRepository;
+
+    TrendingProperties properties;
+
+    TrendingTopicEngine trendingTopicEngine;
+
+    @BeforeEach
+    void setup() {
+        this.properties = new TrendingProperties();
+        this.properties.setSize(3);
+        this.properties.setCandidates(5);
+        this.properties.setHalfLife(Duration.ofHours(1));
+        this.trendingTopicEngine = new TrendingTopicEngine(this.answerRepository, this.properties);
+    }
+
+
+    @DisplayName("Should rank topics by accumulated activity score")
+    @Test
+    void shouldRankTopicsByAccumulatedActivityScore() {
+        this.trendingTopicEngine.onTopicActivity(new TopicActivityEvent(TopicActivityEvent.Type.TOPIC_VIEWED, 1L, 1L, null));
+        this.trendingTopicEngine.onTopicActivity(new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_CREATED, 2L, 1L, 1L));
+        this.trendingTopicEngine.onTopicActivity(new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_CREATED, 3L, 2L, 1L));
+        this.trendingTopicEngine.onTopicActivity(new TopicActivityEvent(TopicActivityEvent.Type.BEST_ANSWER_MARKED, 3L, 2L, 1L));
+
+        List<TrendingTopicDTO> trending = this.trendingTopicEngine.trending(null, null);
+
+        assertAll(
+                () -> assertEquals(List.of(3L, 2L, 1L), trending.stream().map(TrendingTopicDTO::topic_id).toList()),
+                () -> assertEquals(8.0, trending.get(0).score(), 0.01),
+                () -> assertEquals(5.0, trending.get(1).score(), 0.01),
+                () -> assertEquals(1.0, trending.get(2).score(), 0.01)
+        );
+    }
+
+    @DisplayName("Should decay old activity exponentially by the configured half-life")
+    @Test
+    void shouldDecayOldActivityByHalfLife() {
+        Instant now = Instant.now();
+        this.trendingTopicEngine.record(1L, 1L, 5.0, now.minus(Duration.ofHours(3)));
+        this.trendingTopicEngine.record(2L, 1L, 1.0, now);
+
+        List<TrendingTopicDTO> trending = this.trendingTopicEngine.trending(null, null);
+
+        assertAll(
+                () -> assertEquals(List.of(2L, 1L), trending.stream().map(TrendingTopicDTO::topic_id).toList()),
+                () -> assertEquals(5.0 / 8, trending.get(1).score(), 0.01)
+        );
+    }
+
+    @DisplayName("Should keep a separate ranking per course")
+    @Test
+    void shouldKeepSeparateRankingPerCourse() {
+        this.trendingTopicEngine.onTopicActivity(new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_CREATED, 1L, 1L, 1L));
+        this.trendingTopicEngine.onTopicActivity(new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_CREATED, 2L, 2L, 1L));
+
+        assertAll(
+                () -> assertEquals(List.of(2L), this.trendingTopicEngine.trending(2L, null).stream()
+                        .map(TrendingTopicDTO::topic_id).toList()),
+                () -> assertTrue(this.trendingTopicEngine.trending(3L, null).isEmpty())
+        );
+    }
+
+    @DisplayName("Should serve at most the configured size and keep the candidates bounded")
+    @Test
+    void shouldServeAtMostConfiguredSizeAndEvictLowestCandidates() {
+        Instant now = Instant.now();
+        LongStream.rangeClosed(1, 10).forEach(id -> this.trendingTopicEngine.record(id, 1L, id, now));
+
+        List<TrendingTopicDTO> trending = this.trendingTopicEngine.trending(null, 50);
+
+        assertEquals(List.of(10L, 9L, 8L), trending.stream().map(TrendingTopicDTO::topic_id).toList());
+
+        this.trendingTopicEngine.remove(10L);
+        this.trendingTopicEngine.remove(9L);
+        this.trendingTopicEngine.remove(8L);
+        this.trendingTopicEngine.remove(7L);
+
+        assertEquals(List.of(6L), this.trendingTopicEngine.trending(null, null).stream()
+                .map(TrendingTopicDTO::topic_id).toList());
+    }
+
+    @DisplayName("Should move a topic to the ranking of its new course and keep its score")
+    @Test
+    void shouldMoveTopicBetweenCourseRankingsWhenCourseChanges() {
+        this.trendingTopicEngine.onTopicActivity(new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_CREATED, 1L, 1L, 1L));
+        this.trendingTopicEngine.onTopicActivity(TopicActivityEvent.topicUpdated(1L, 1L, 2L, 1L));
+
+        List<TrendingTopicDTO> moved = this.trendingTopicEngine.trending(2L, null);
+        List<TrendingTopicDTO> global = this.trendingTopicEngine.trending(null, null);
+
+        assertAll(
+                () -> assertTrue(this.trendingTopicEngine.trending(1L, null).isEmpty()),
+                () -> assertEquals(List.of(1L), moved.stream().map(TrendingTopicDTO::topic_id).toList()),
+                () -> assertEquals(5.0, moved.get(0).score(), 0.01),
+                () -> assertEquals(2L, global.get(0).course_id()),
+                () -> assertEquals(5.0, global.get(0).score(), 0.01)
+        );
+    }
+
+    @DisplayName("Should drop deleted topics from every ranking")
+    @Test
+    void shouldDropDeletedTopicsFromEveryRanking() {
+        this.trendingTopicEngine.onTopicActivity(new TopicActivityEvent(TopicActivityEvent.Type.ANSWER_CREATED, 1L, 1L, 1L));
+        this.trendingTopicEngine.onTopicActivity(new TopicActivityEvent(TopicActivityEvent.Type.TOPIC_DELETED, 1L, null, 1L));
+
+        assertAll(
+                () -> assertTrue(this.trendingTopicEngine.trending(null, null).isEmpty()),
+                () -> assertTrue(this.trendingTopicEngine.trending(1L, null).isEmpty())
+        );
+    }
+
+}
@@ -173,6 +173,7 @@ public final class TestsHelper {
                     .username("Desconhecido")
                     .email("desconhecido@email.com")
                     .profile(ProfileHelper.profileList().get(0))
+                    .tombstone(true)
                     .build()
             );
             return authorList;
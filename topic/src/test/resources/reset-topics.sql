@@ -0,0 +1,4 @@
+DELETE FROM answer;
+DELETE FROM topic;
+ALTER TABLE answer ALTER COLUMN answer_id RESTART WITH 1;
+ALTER TABLE topic ALTER COLUMN topic_id RESTART WITH 1;
@@ -0,0 +1,44 @@
+package com.raul.forumhub.user.benchmark;
+
+import com.raul.forumhub.user.dto.request.UserCreateDTO;
+import com.raul.forumhub.user.security.password.PasswordConstraintValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordConstraintValidatorBenchmark {
+
+    PasswordConstraintValidator passwordConstraintValidator;
+
+    Validator validator;
+
+    @Setup
+    public void setup() {
+        this.passwordConstraintValidator = new PasswordConstraintValidator();
+        this.validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @Benchmark
+    public boolean validPassword() {
+        return this.passwordConstraintValidator.isValid("Forum#Hub2024", null);
+    }
+
+    /**
+     * Rejected passwords build a constraint violation, so they go through the validator to get a real context.
+     */
+    @Benchmark
+    public Set<ConstraintViolation<UserCreateDTO>> invalidPassword() {
+        return this.validator.validateValue(UserCreateDTO.class, "password", "senha123");
+    }
+
+}
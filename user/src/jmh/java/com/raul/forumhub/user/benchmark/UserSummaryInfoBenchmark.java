@@ -0,0 +1,30 @@
+package com.raul.forumhub.user.benchmark;
+
+import com.raul.forumhub.user.domain.User;
+import com.raul.forumhub.user.dto.response.UserSummaryInfo;
+import com.raul.forumhub.user.util.TestsHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserSummaryInfoBenchmark {
+
+    User user;
+
+    @Setup
+    public void setup() {
+        this.user = TestsHelper.UserHelper.userList().get(0);
+    }
+
+    @Benchmark
+    public UserSummaryInfo construct() {
+        return new UserSummaryInfo(this.user);
+    }
+
+}
@@ -1,9 +1,16 @@
 package com.raul.forumhub.user;
 
+import com.raul.forumhub.compression.CompressionThresholdFilter;
+import com.raul.forumhub.datasource.ReplicaRoutingProperties;
+import com.raul.forumhub.datasource.config.DataSourceRoutingConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @SpringBootApplication
+@Import({CompressionThresholdFilter.class, ReplicaRoutingProperties.class, DataSourceRoutingConfig.class})
 public class UserApplication {
 
 	public static void main(String[] args) {
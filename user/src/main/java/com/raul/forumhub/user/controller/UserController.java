@@ -6,6 +6,7 @@ import com.raul.forumhub.user.dto.request.UserUpdateDTO;
 import com.raul.forumhub.user.dto.response.HttpMessageDefault;
 import com.raul.forumhub.user.dto.response.UserDetailedInfo;
 import com.raul.forumhub.user.dto.response.UserSummaryInfo;
+import com.raul.forumhub.user.dto.response.UserSummaryPage;
 import com.raul.forumhub.user.exception.MalFormatedParamUserException;
 import com.raul.forumhub.user.security.IsAuthenticated;
 import com.raul.forumhub.user.service.UserService;
@@ -16,6 +17,7 @@ import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -65,9 +67,9 @@ public class UserController {
     }
 
     @IsAuthenticated
-    @GetMapping("/summary-info")
-    public ResponseEntity<UserSummaryInfo> getSummaryInfoUser(@RequestParam Long user_id) {
-        return ResponseEntity.ok(new UserSummaryInfo(this.userService.getDetailedInfoUser(user_id)));
+    @GetMapping(value = "/summary-info", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getSummaryInfoUser(@RequestParam Long user_id) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(this.userService.getSummaryInfoUser(user_id));
     }
 
 
@@ -79,6 +81,24 @@ public class UserController {
         return assembler.toModel(userService.usersList(pageable));
     }
 
+    @PreAuthorize("hasAnyRole('MOD','ADM') and hasAuthority('SCOPE_user:readAll')")
+    @GetMapping("/listAllByCursor")
+    public ResponseEntity<UserSummaryPage> usersListByCursor(@RequestParam(defaultValue = "id") String sort,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "100") int size) {
+
+        return ResponseEntity.ok(this.userService.usersListByCursor(sort, cursor, size));
+    }
+
+    @PreAuthorize("hasAnyRole('MOD','ADM') and hasAuthority('SCOPE_user:readAll')")
+    @GetMapping("/search")
+    public ResponseEntity<UserSummaryPage> searchUsers(@RequestParam String q,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(this.userService.searchUsers(q, cursor, size));
+    }
+
 
     @PreAuthorize("hasRole('ADM') or hasAuthority('SCOPE_myuser:edit')")
     @PutMapping("/edit")
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity(name = "users")
 @Table(name = "users")
@@ -40,6 +41,10 @@ public class User {
     private boolean isAccountNonLocked;
     private boolean isCredentialsNonExpired;
     private boolean isEnabled;
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("false")
+    @JsonIgnore
+    private boolean tombstone;
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumns(@JoinColumn(name = "profile_id", foreignKey = @ForeignKey(name = "profile_id")))
     private Profile profile;
@@ -0,0 +1,31 @@
+package com.raul.forumhub.user.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity(name = "user_deletion")
+@Table(name = "user_deletion")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class UserDeletion {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    @Column(nullable = false)
+    private Instant requestedAt;
+    @Column
+    private Instant reassignedAt;
+    @Column
+    private Instant completedAt;
+
+    public UserDeletion(Long userId) {
+        this.userId = userId;
+        this.requestedAt = Instant.now();
+    }
+
+}
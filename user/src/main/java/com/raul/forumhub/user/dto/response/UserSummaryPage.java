@@ -0,0 +1,6 @@
+package com.raul.forumhub.user.dto.response;
+
+import java.util.List;
+
+public record UserSummaryPage(List<UserSummaryInfo> users, String next_cursor) {
+}
@@ -0,0 +1,15 @@
+package com.raul.forumhub.user.respository;
+
+import com.raul.forumhub.user.domain.UserDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserDeletionRepository extends JpaRepository<UserDeletion, Long> {
+
+    List<UserDeletion> findByReassignedAtIsNotNullAndCompletedAtIsNullOrderByRequestedAt(Pageable pageable);
+
+}
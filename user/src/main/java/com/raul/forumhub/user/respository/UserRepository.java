@@ -1,11 +1,84 @@
 package com.raul.forumhub.user.respository;
 
+import com.raul.forumhub.user.domain.Profile;
 import com.raul.forumhub.user.domain.User;
+import com.raul.forumhub.user.dto.response.UserSummaryInfo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-}
+    String SEARCH_RANKED = "SELECT u.user_id AS \"id\", u.first_name AS \"firstName\", u.last_name AS \"lastName\", " +
+            "u.username AS \"username\", u.email AS \"email\", p.profile_id AS \"profileId\", " +
+            "p.profile AS \"profileName\", " +
+            "CASE WHEN lower(u.username) = :term OR lower(u.email) = :term THEN 0 " +
+            "WHEN lower(u.username) LIKE :prefix OR lower(u.email) LIKE :prefix THEN 1 ELSE 2 END AS \"bucket\", " +
+            "greatest(similarity(lower(u.username), :term), similarity(lower(u.email), :term)) AS \"score\" " +
+            "FROM users u LEFT JOIN profile p ON p.profile_id = u.profile_id WHERE u.tombstone = false AND ";
+
+    String SEARCH_AFTER = " ) ranked WHERE ranked.\"bucket\" > :bucket " +
+            "OR (ranked.\"bucket\" = :bucket AND ranked.\"score\" < :score) " +
+            "OR (ranked.\"bucket\" = :bucket AND ranked.\"score\" = :score AND ranked.\"id\" > :afterId) " +
+            "ORDER BY ranked.\"bucket\", ranked.\"score\" DESC, ranked.\"id\" LIMIT :limit";
+
+    @Query("SELECT new com.raul.forumhub.user.dto.response.UserSummaryInfo(u.id, u.firstName, u.lastName, u.username, " +
+            "u.email, p) FROM users u LEFT JOIN u.profile p WHERE u.id = :id")
+    Optional<UserSummaryInfo> findSummaryById(@Param("id") Long id);
+
+    @Query("SELECT new com.raul.forumhub.user.dto.response.UserSummaryInfo(u.id, u.firstName, u.lastName, u.username, " +
+            "u.email, p) FROM users u LEFT JOIN u.profile p WHERE u.id > :afterId ORDER BY u.id")
+    List<UserSummaryInfo> findSummariesAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.raul.forumhub.user.dto.response.UserSummaryInfo(u.id, u.firstName, u.lastName, u.username, " +
+            "u.email, p) FROM users u LEFT JOIN u.profile p WHERE u.username > :afterUsername ORDER BY u.username")
+    List<UserSummaryInfo> findSummariesAfterUsername(@Param("afterUsername") String afterUsername, Pageable pageable);
+
+    @Query(value = "SELECT * FROM ( " + SEARCH_RANKED +
+            "(lower(u.username) LIKE :prefix OR lower(u.email) LIKE :prefix)" + SEARCH_AFTER, nativeQuery = true)
+    List<SearchMatch> searchByPrefix(@Param("term") String term, @Param("prefix") String prefix,
+                                     @Param("bucket") int bucket, @Param("score") float score,
+                                     @Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM ( " + SEARCH_RANKED +
+            "(u.username ILIKE :contains OR lower(u.email) LIKE :contains)" + SEARCH_AFTER, nativeQuery = true)
+    List<SearchMatch> searchBySubstring(@Param("term") String term, @Param("prefix") String prefix,
+                                        @Param("contains") String contains, @Param("bucket") int bucket,
+                                        @Param("score") float score, @Param("afterId") long afterId,
+                                        @Param("limit") int limit);
+
+    interface SearchMatch {
+
+        Long getId();
 
+        String getFirstName();
+
+        String getLastName();
+
+        String getUsername();
+
+        String getEmail();
+
+        Long getProfileId();
+
+        String getProfileName();
+
+        Integer getBucket();
+
+        Float getScore();
+
+        default UserSummaryInfo toSummary() {
+            Profile profile = this.getProfileId() == null ? null
+                    : new Profile(this.getProfileId(), Profile.ProfileName.valueOf(this.getProfileName()));
+            return new UserSummaryInfo(this.getId(), this.getFirstName(), this.getLastName(), this.getUsername(),
+                    this.getEmail(), profile);
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.raul.forumhub.user.service;
+
+import com.raul.forumhub.user.domain.UserDeletion;
+import com.raul.forumhub.user.respository.UserDeletionRepository;
+import com.raul.forumhub.user.respository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+/**
+ * Removes users whose content has already been reassigned by the topic service. A deletion that still hits a
+ * foreign key (content created after the reassignment) goes back to the topic service.
+ */
+@Slf4j
+@Service
+public class UserDeletionFinalizer {
+
+    private final UserDeletionRepository userDeletionRepository;
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final UserSummaryCache userSummaryCache;
+
+    private final int batchSize;
+
+    public UserDeletionFinalizer(UserDeletionRepository userDeletionRepository, UserRepository userRepository,
+                                 TransactionTemplate transactionTemplate, UserSummaryCache userSummaryCache,
+                                 @Value("${forumhub.user-deletion.batch-size:20}") int batchSize) {
+        this.userDeletionRepository = userDeletionRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.userSummaryCache = userSummaryCache;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${forumhub.user-deletion.delay:30000}")
+    public void finalizeDeletions() {
+        for (UserDeletion deletion : this.userDeletionRepository
+                .findByReassignedAtIsNotNullAndCompletedAtIsNullOrderByRequestedAt(PageRequest.of(0, this.batchSize))) {
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> {
+                    this.userRepository.findById(deletion.getUserId()).ifPresent(user -> {
+                        this.userRepository.delete(user);
+                        this.userRepository.flush();
+                    });
+                    deletion.setCompletedAt(Instant.now());
+                    this.userDeletionRepository.save(deletion);
+                });
+                this.userSummaryCache.evict(deletion.getUserId());
+                log.info("User deletion completed ==> {}", deletion.getUserId());
+            } catch (DataIntegrityViolationException ex) {
+                deletion.setReassignedAt(null);
+                this.userDeletionRepository.save(deletion);
+                log.info("User deletion requeued ==> {}", deletion.getUserId());
+            }
+        }
+    }
+
+}
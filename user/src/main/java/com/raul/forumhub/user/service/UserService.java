@@ -2,31 +2,66 @@ package com.raul.forumhub.user.service;
 
 import com.raul.forumhub.user.domain.Profile;
 import com.raul.forumhub.user.domain.User;
+import com.raul.forumhub.user.domain.UserDeletion;
 import com.raul.forumhub.user.dto.request.UserCreateDTO;
 import com.raul.forumhub.user.dto.request.UserUpdateDTO;
 import com.raul.forumhub.user.dto.response.UserDetailedInfo;
 import com.raul.forumhub.user.dto.response.UserSummaryInfo;
+import com.raul.forumhub.user.dto.response.UserSummaryPage;
 import com.raul.forumhub.user.exception.InstanceNotFoundException;
+import com.raul.forumhub.user.exception.MalFormatedParamUserException;
 import com.raul.forumhub.user.respository.ProfileRepository;
+import com.raul.forumhub.user.respository.UserDeletionRepository;
 import com.raul.forumhub.user.respository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+@Slf4j
 @Service
 public class UserService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    private static final int MAX_SEARCH_TERM_LENGTH = 255;
+
+    private static final int TRIGRAM_LENGTH = 3;
+
     private final UserRepository userRepository;
 
     private final ProfileRepository profileRepository;
 
     private final PasswordEncoder passwordEncoder;
 
-    public UserService(UserRepository userRepository, ProfileRepository profileRepository, PasswordEncoder passwordEncoder) {
+    private final UserDeletionRepository userDeletionRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final UserSummaryCache userSummaryCache;
+
+    public UserService(UserRepository userRepository, ProfileRepository profileRepository, PasswordEncoder passwordEncoder,
+                       UserDeletionRepository userDeletionRepository, TransactionTemplate transactionTemplate,
+                       UserSummaryCache userSummaryCache) {
         this.userRepository = userRepository;
         this.profileRepository = profileRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userDeletionRepository = userDeletionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.userSummaryCache = userSummaryCache;
     }
 
 
@@ -50,14 +85,70 @@ public class UserService {
         this.userRepository.save(user);
     }
 
+    @Transactional(readOnly = true)
     public User getDetailedInfoUser(Long user_id) {
         return this.getUserById(user_id);
     }
 
+    public byte[] getSummaryInfoUser(Long user_id) {
+        return this.userSummaryCache.get(user_id, () -> this.userRepository.findSummaryById(user_id)
+                .orElseThrow(() -> new InstanceNotFoundException("Usuário não encontrado")));
+    }
+
+    @Transactional(readOnly = true)
     public Page<UserSummaryInfo> usersList(Pageable pageable) {
         return this.userRepository.findAll(pageable).map(UserSummaryInfo::new);
     }
 
+    /**
+     * Keyset listing over the primary key or the unique username, so deep pages cost the same as the first one.
+     */
+    @Transactional(readOnly = true)
+    public UserSummaryPage usersListByCursor(String sort, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new MalFormatedParamUserException("O tamanho da página deve estar entre 1 e " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        CursorSort cursorSort = CursorSort.of(sort);
+        String after = cursor == null ? null : Cursor.decode(cursor, cursorSort).value();
+        List<UserSummaryInfo> users = switch (cursorSort) {
+            case ID -> this.userRepository.findSummariesAfterId(after == null ? 0L : Long.parseLong(after),
+                    PageRequest.of(0, size));
+            case USERNAME -> this.userRepository.findSummariesAfterUsername(after == null ? "" : after,
+                    PageRequest.of(0, size));
+        };
+
+        String next = users.size() < size ? null : new Cursor(cursorSort, users.get(users.size() - 1)).encode();
+        return new UserSummaryPage(users, next);
+    }
+
+    /**
+     * Ranks exact matches first, then prefixes, then substrings by trigram similarity. Terms shorter than a trigram
+     * only match prefixes, so every search is answered by the indexes of V1_0_7 instead of a scan over users.
+     */
+    @Transactional(readOnly = true)
+    public UserSummaryPage searchUsers(String q, String cursor, int size) {
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new MalFormatedParamUserException("O tamanho da página deve estar entre 1 e " + MAX_SEARCH_PAGE_SIZE);
+        }
+
+        String term = q == null ? "" : q.strip().toLowerCase(Locale.ROOT);
+        if (term.isEmpty() || term.length() > MAX_SEARCH_TERM_LENGTH) {
+            throw new MalFormatedParamUserException("O termo de busca deve ter entre 1 e " + MAX_SEARCH_TERM_LENGTH + " caracteres");
+        }
+
+        SearchCursor after = cursor == null ? SearchCursor.FIRST : SearchCursor.decode(cursor);
+        String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        List<UserRepository.SearchMatch> matches = term.length() < TRIGRAM_LENGTH
+                ? this.userRepository.searchByPrefix(term, escaped + "%", after.bucket(), after.score(), after.id(), size)
+                : this.userRepository.searchBySubstring(term, escaped + "%", "%" + escaped + "%", after.bucket(),
+                after.score(), after.id(), size);
+
+        String next = matches.size() < size ? null : new SearchCursor(matches.get(matches.size() - 1)).encode();
+        return new UserSummaryPage(matches.stream().map(UserRepository.SearchMatch::toSummary).toList(), next);
+    }
+
+    @Transactional
     public UserDetailedInfo updateUser(Long user_id, Profile.ProfileName claimUserRole, UserUpdateDTO userUpdateDTO) {
         User user = this.getUserById(user_id);
         Profile profile = this.findProfileByName(userUpdateDTO.profileName());
@@ -74,12 +165,40 @@ public class UserService {
         }
 
         userRepository.save(user);
+        this.userSummaryCache.evict(user_id);
         return new UserDetailedInfo(user);
     }
 
+    /**
+     * Records the deletion before removing the user. While the user still owns topics or answers the account is
+     * disabled and the deletion stays pending until the topic service moves that content to the tombstone author.
+     */
     public void deleteUser(Long user_id) {
         User user = this.getUserById(user_id);
-        this.userRepository.delete(user);
+        if (user.isTombstone()) {
+            throw new MalFormatedParamUserException("O usuário desconhecido não pode ser removido");
+        }
+
+        UserDeletion deletion = this.userDeletionRepository.findById(user_id).orElseGet(() -> new UserDeletion(user_id));
+        this.transactionTemplate.executeWithoutResult(status -> this.userDeletionRepository.save(deletion));
+
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                this.userRepository.delete(user);
+                this.userRepository.flush();
+                deletion.setCompletedAt(Instant.now());
+                this.userDeletionRepository.save(deletion);
+            });
+        } catch (DataIntegrityViolationException ex) {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                User pending = this.getUserById(user_id);
+                pending.setEnabled(false);
+                this.userRepository.save(pending);
+            });
+            log.info("User deletion pending ==> {}", user_id);
+        } finally {
+            this.userSummaryCache.evict(user_id);
+        }
     }
 
     private User getUserById(Long user_id) {
@@ -90,4 +209,70 @@ public class UserService {
     public Profile findProfileByName(Profile.ProfileName profileName) {
         return profileRepository.findByProfileName(profileName).orElseThrow(() -> new InstanceNotFoundException("Perfil não encontrado"));
     }
+
+    private enum CursorSort {
+        ID, USERNAME;
+
+        static CursorSort of(String sort) {
+            try {
+                return CursorSort.valueOf(sort.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new MalFormatedParamUserException("Ordenação não suportada, utilize id ou username");
+            }
+        }
+    }
+
+    private record Cursor(CursorSort sort, String value) {
+
+        Cursor(CursorSort sort, UserSummaryInfo last) {
+            this(sort, sort == CursorSort.ID ? last.id().toString() : last.username());
+        }
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((this.sort.name() + "_" + this.value).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor, CursorSort sort) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_", 2);
+                Cursor decoded = new Cursor(CursorSort.valueOf(parts[0]), parts[1]);
+                if (decoded.sort() != sort || (sort == CursorSort.ID && Long.parseLong(decoded.value()) < 0)) {
+                    throw new IllegalArgumentException();
+                }
+                return decoded;
+            } catch (RuntimeException ex) {
+                throw new MalFormatedParamUserException("O cursor informado é inválido");
+            }
+        }
+    }
+
+    private record SearchCursor(int bucket, float score, long id) {
+
+        static final SearchCursor FIRST = new SearchCursor(-1, 0f, 0L);
+
+        SearchCursor(UserRepository.SearchMatch last) {
+            this(last.getBucket(), last.getScore(), last.getId());
+        }
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((this.bucket + "_" + this.score + "_" + this.id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SearchCursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_");
+                SearchCursor decoded = new SearchCursor(Integer.parseInt(parts[0]), Float.parseFloat(parts[1]),
+                        Long.parseLong(parts[2]));
+                if (parts.length != 3 || decoded.bucket() < 0 || decoded.bucket() > 2
+                        || !Float.isFinite(decoded.score()) || decoded.id() < 0) {
+                    throw new IllegalArgumentException();
+                }
+                return decoded;
+            } catch (RuntimeException ex) {
+                throw new MalFormatedParamUserException("O cursor informado é inválido");
+            }
+        }
+    }
 }
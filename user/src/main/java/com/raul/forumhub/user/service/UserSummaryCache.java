@@ -0,0 +1,79 @@
+package com.raul.forumhub.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.user.dto.response.UserSummaryInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.function.Supplier;
+
+/**
+ * Serialized {@link UserSummaryInfo} per user, kept in the {@code user.summary} region of {@code ehcache.xml}
+ * next to the Hibernate regions and taken from the same per-context manager. Entries are evicted on update and
+ * delete; the TTL bounds what other instances may still serve.
+ */
+@Component
+public class UserSummaryCache {
+
+    static final String CACHE_NAME = "user.summary";
+
+    private final Cache<Object, Object> cache;
+
+    private final ObjectMapper objectMapper;
+
+    public UserSummaryCache(ObjectMapper objectMapper, MeterRegistry meterRegistry, CacheManager hibernateCacheManager,
+                            @Value("${forumhub.user-summary.cache-enabled:true}") boolean enabled) {
+        this.objectMapper = objectMapper;
+        if (enabled) {
+            this.cache = hibernateCacheManager.getCache(CACHE_NAME);
+            JCacheMetrics.monitor(meterRegistry, this.cache);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    public byte[] get(Long user_id, Supplier<UserSummaryInfo> loader) {
+        if (this.cache != null && this.cache.get(user_id) instanceof byte[] cached) {
+            return cached;
+        }
+
+        byte[] serialized;
+        try {
+            serialized = this.objectMapper.writeValueAsBytes(loader.get());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+        if (this.cache != null) {
+            this.cache.put(user_id, serialized);
+        }
+        return serialized;
+    }
+
+    /**
+     * Inside a transaction the entry is removed after commit, so a read racing the write can't put the old
+     * summary back for the whole TTL.
+     */
+    public void evict(Long user_id) {
+        if (this.cache == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    UserSummaryCache.this.cache.remove(user_id);
+                }
+            });
+        } else {
+            this.cache.remove(user_id);
+        }
+    }
+
+}
@@ -572,8 +572,8 @@ public class UserControllerTest {
     @DisplayName("Authenticated user should be able of to request user summary info with success")
     @Test
     void AuthenticatedUserShouldToRequestSummaryInfoUserWithSuccess() throws Exception {
-        BDDMockito.given(this.userService.getDetailedInfoUser(1L))
-                .willReturn(TestsHelper.UserHelper.userList().get(0));
+        BDDMockito.given(this.userService.getSummaryInfoUser(1L))
+                .willReturn(new ObjectMapper().writeValueAsBytes(new UserSummaryInfo(TestsHelper.UserHelper.userList().get(0))));
 
         this.mockMvc.perform(get("/api-forum/v1/forumhub/users/summary-info")
                         .queryParam("user_id", "1")
@@ -588,7 +588,7 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.email", is("jose@email.com")))
                 .andExpect(jsonPath("$.profile.profileName", is("BASIC")));
 
-        BDDMockito.verify(this.userService).getDetailedInfoUser(1L);
+        BDDMockito.verify(this.userService).getSummaryInfoUser(1L);
         BDDMockito.verifyNoMoreInteractions(this.userService);
 
     }
@@ -0,0 +1,143 @@
+package com.raul.forumhub.user.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.user.domain.Profile;
+import com.raul.forumhub.user.domain.User;
+import com.raul.forumhub.user.respository.ProfileRepository;
+import com.raul.forumhub.user.respository.UserRepository;
+import com.raul.forumhub.user.util.TestsHelper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:compression;INIT=CREATE SCHEMA IF NOT EXISTS HUB",
+        "server.compression.enabled=true",
+        "server.compression.min-response-size=2KB",
+        "server.compression.mime-types=application/json,application/hal+json"
+})
+@ActiveProfiles(value = "test")
+class CompressionIT {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @MockBean
+    JwtDecoder jwtDecoder;
+
+    final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private static boolean hasBeenInitialized = false;
+
+
+    @BeforeEach
+    void setup() {
+        BDDMockito.given(this.jwtDecoder.decode(anyString())).willReturn(Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("user_id", "1")
+                .claim("authority", "ROLE_ADM")
+                .claim("scope", "user:readAll")
+                .build());
+
+        if (!hasBeenInitialized) {
+            List<Profile> profiles = this.profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+            this.userRepository.saveAll(IntStream.range(0, 50)
+                    .mapToObj(i -> User.builder()
+                            .firstName("Usuario")
+                            .lastName("Numero " + i)
+                            .username("usuario_" + i)
+                            .email("usuario" + i + "@email.com")
+                            .password("password")
+                            .profile(profiles.get(i % profiles.size()))
+                            .isAccountNonExpired(true)
+                            .isAccountNonLocked(true)
+                            .isCredentialsNonExpired(true)
+                            .isEnabled(true)
+                            .build())
+                    .toList());
+            hasBeenInitialized = true;
+        }
+    }
+
+
+    @SneakyThrows
+    @DisplayName("Should compress large user pages when the client accepts gzip")
+    @Test
+    void shouldCompressLargeUserPagesWithGzip() {
+        HttpResponse<byte[]> response = this.get("/api-forum/v1/forumhub/users/listAll?size=50", "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+
+        byte[] body;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            body = gzip.readAllBytes();
+        }
+        JsonNode page = new ObjectMapper().readTree(body);
+
+        assertAll(
+                () -> assertTrue(response.body().length < body.length),
+                () -> assertEquals(50, page.at("/page/totalElements").asInt())
+        );
+    }
+
+    @SneakyThrows
+    @DisplayName("Should not compress user pages when the client doesn't accept gzip")
+    @Test
+    void shouldNotCompressWhenClientDoesNotAcceptGzip() {
+        HttpResponse<byte[]> response = this.get("/api-forum/v1/forumhub/users/listAll?size=50", "identity");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+    }
+
+    @SneakyThrows
+    @DisplayName("Should not compress responses below the configured threshold")
+    @Test
+    void shouldNotCompressSmallResponses() {
+        Long user_id = this.userRepository.findAll().get(0).getId();
+
+        HttpResponse<byte[]> response = this.get("/api-forum/v1/forumhub/users/summary-info?user_id=" + user_id, "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        return this.httpClient.send(HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + this.port + path))
+                        .header("Accept-Encoding", acceptEncoding)
+                        .header("Authorization", "Bearer token")
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+}
@@ -1,6 +1,9 @@
 package com.raul.forumhub.user.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.query.QueryBudget;
+import com.raul.forumhub.query.QueryBudgetExtension;
+import com.raul.forumhub.query.QueryRecordingConfig;
 import com.raul.forumhub.user.domain.Profile;
 import com.raul.forumhub.user.domain.User;
 import com.raul.forumhub.user.dto.request.UserCreateDTO;
@@ -9,9 +12,11 @@ import com.raul.forumhub.user.respository.ProfileRepository;
 import com.raul.forumhub.user.respository.UserRepository;
 import com.raul.forumhub.user.util.TestsHelper;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
@@ -32,6 +37,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc(printOnlyOnFailure = false)
 @ActiveProfiles(value = "test")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(QueryBudgetExtension.class)
+@Import(QueryRecordingConfig.class)
 public class UserControllerIT {
 
     @Autowired
@@ -688,6 +695,7 @@ public class UserControllerIT {
     @DisplayName("ADM user should be able get detailed info your user with success if " +
             "user_id param is null")
     @Test
+    @QueryBudget(value = "GET /api-forum/v1/forumhub/users/detailed-info", max = 2)
     void admUserShouldGetDetailedInfoYourUserWithSuccessIfHasSuitableAuthority() throws Exception {
         this.mockMvc.perform(get("/api-forum/v1/forumhub/users/detailed-info")
                         .with(jwt().jwt(jwt -> jwt.claims(map -> map.putAll(Map.of(
@@ -894,6 +902,7 @@ public class UserControllerIT {
 
     @DisplayName("MOD user should be able to request all users unsorted with success")
     @Test
+    @QueryBudget(value = "GET /api-forum/v1/forumhub/users/listAll", max = 4)
     void modUserShouldToRequestAllUsersUnsortedWithSuccess() throws Exception {
         this.mockMvc.perform(get("/api-forum/v1/forumhub/users/listAll")
                         .with(jwt().jwt(jwt -> jwt.claims(map -> map.putAll(Map.of(
@@ -2,11 +2,15 @@ package com.raul.forumhub.user.service;
 
 import com.raul.forumhub.user.domain.Profile;
 import com.raul.forumhub.user.domain.User;
+import com.raul.forumhub.user.domain.UserDeletion;
 import com.raul.forumhub.user.dto.request.UserCreateDTO;
 import com.raul.forumhub.user.dto.request.UserUpdateDTO;
 import com.raul.forumhub.user.dto.response.UserSummaryInfo;
+import com.raul.forumhub.user.dto.response.UserSummaryPage;
 import com.raul.forumhub.user.exception.InstanceNotFoundException;
+import com.raul.forumhub.user.exception.MalFormatedParamUserException;
 import com.raul.forumhub.user.respository.ProfileRepository;
+import com.raul.forumhub.user.respository.UserDeletionRepository;
 import com.raul.forumhub.user.respository.UserRepository;
 import com.raul.forumhub.user.util.TestsHelper;
 import org.junit.jupiter.api.Assertions;
@@ -22,13 +26,19 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +57,15 @@ public class UserServiceTest {
     @Mock
     PasswordEncoder passwordEncoder;
 
+    @Mock
+    UserDeletionRepository userDeletionRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    UserSummaryCache userSummaryCache;
+
 
     @Test
     void shouldFailToCreateUserIfBasicProfileNotExists() {
@@ -397,6 +416,95 @@ public class UserServiceTest {
         BDDMockito.verifyNoMoreInteractions(this.userRepository);
     }
 
+    @Test
+    void shouldReturnUsersByCursorWithNextCursorWhenPageIsFull() {
+        List<UserSummaryInfo> firstPage = TestsHelper.UserHelper.userList().stream().limit(2)
+                .map(UserSummaryInfo::new).toList();
+        BDDMockito.given(this.userRepository.findSummariesAfterId(0L, PageRequest.of(0, 2))).willReturn(firstPage);
+        BDDMockito.given(this.userRepository.findSummariesAfterId(2L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new UserSummaryInfo(TestsHelper.UserHelper.userList().get(2))));
+
+        UserSummaryPage page = this.userService.usersListByCursor("id", null, 2);
+        UserSummaryPage lastPage = this.userService.usersListByCursor("id", page.next_cursor(), 2);
+
+        assertAll(
+                () -> assertEquals(2, page.users().size()),
+                () -> assertNotNull(page.next_cursor()),
+                () -> assertEquals(1, lastPage.users().size()),
+                () -> assertNull(lastPage.next_cursor())
+        );
+        BDDMockito.verify(this.userRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void shouldFailToReturnUsersByCursorIfCursorBelongsToAnotherSort() {
+        BDDMockito.given(this.userRepository.findSummariesAfterUsername("", PageRequest.of(0, 1)))
+                .willReturn(List.of(new UserSummaryInfo(TestsHelper.UserHelper.userList().get(0))));
+
+        String usernameCursor = this.userService.usersListByCursor("username", null, 1).next_cursor();
+
+        assertAll(
+                () -> assertThrows(MalFormatedParamUserException.class,
+                        () -> this.userService.usersListByCursor("id", usernameCursor, 1)),
+                () -> assertThrows(MalFormatedParamUserException.class,
+                        () -> this.userService.usersListByCursor("id", "not-a-cursor", 1)),
+                () -> assertThrows(MalFormatedParamUserException.class,
+                        () -> this.userService.usersListByCursor("email", null, 1)),
+                () -> assertThrows(MalFormatedParamUserException.class,
+                        () -> this.userService.usersListByCursor("id", null, 501))
+        );
+    }
+
+    @Test
+    void shouldSearchUsersBySubstringRankedAndPagedByCursor() {
+        List<User> users = TestsHelper.UserHelper.userList();
+        BDDMockito.given(this.userRepository.searchBySubstring("silva", "silva%", "%silva%", -1, 0f, 0L, 2))
+                .willReturn(List.of(new Match(users.get(0), 2, 0.5f), new Match(users.get(1), 2, 0.4f)));
+        BDDMockito.given(this.userRepository.searchBySubstring("silva", "silva%", "%silva%", 2, 0.4f, 2L, 2))
+                .willReturn(List.of(new Match(users.get(2), 2, 0.3f)));
+
+        UserSummaryPage page = this.userService.searchUsers(" Silva ", null, 2);
+        UserSummaryPage lastPage = this.userService.searchUsers("silva", page.next_cursor(), 2);
+
+        assertAll(
+                () -> assertEquals(List.of("jose_silva", "maria_silva"),
+                        page.users().stream().map(UserSummaryInfo::username).toList()),
+                () -> assertEquals(Profile.ProfileName.BASIC, page.users().get(0).profile().getProfileName()),
+                () -> assertNotNull(page.next_cursor()),
+                () -> assertEquals("joao_silva", lastPage.users().get(0).username()),
+                () -> assertNull(lastPage.next_cursor())
+        );
+        BDDMockito.verify(this.userRepository, never()).searchByPrefix(any(), any(), anyInt(), anyFloat(), anyLong(), anyInt());
+        BDDMockito.verify(this.userRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void shouldSearchShortTermsByEscapedPrefixOnly() {
+        BDDMockito.given(this.userRepository.searchByPrefix("j_", "j\\_%", -1, 0f, 0L, 20)).willReturn(List.of());
+
+        UserSummaryPage page = this.userService.searchUsers("J_", null, 20);
+
+        assertAll(
+                () -> assertTrue(page.users().isEmpty()),
+                () -> assertNull(page.next_cursor())
+        );
+        BDDMockito.verify(this.userRepository, never())
+                .searchBySubstring(any(), any(), any(), anyInt(), anyFloat(), anyLong(), anyInt());
+    }
+
+    @Test
+    void shouldFailToSearchUsersIfParamsAreInvalid() {
+        assertAll(
+                () -> assertThrows(MalFormatedParamUserException.class,
+                        () -> this.userService.searchUsers("  ", null, 20)),
+                () -> assertThrows(MalFormatedParamUserException.class,
+                        () -> this.userService.searchUsers("silva", null, 101)),
+                () -> assertThrows(MalFormatedParamUserException.class,
+                        () -> this.userService.searchUsers("silva", "not-a-cursor", 20))
+        );
+        BDDMockito.verifyNoInteractions(this.userRepository);
+    }
+
     @Test
     void shouldFailToEditUserIfInformedUserNotExists() {
         BDDMockito.given(this.userRepository.findById(4L)).willThrow(InstanceNotFoundException.class);
@@ -503,6 +611,7 @@ public class UserServiceTest {
         BDDMockito.verify(this.userRepository).findById(1L);
         BDDMockito.verify(this.profileRepository).findByProfileName(Profile.ProfileName.ADM);
         BDDMockito.verify(this.userRepository).save(any(User.class));
+        BDDMockito.verify(this.userSummaryCache).evict(1L);
         BDDMockito.verifyNoMoreInteractions(this.userRepository);
         BDDMockito.verifyNoMoreInteractions(this.profileRepository);
 
@@ -526,13 +635,65 @@ public class UserServiceTest {
         BDDMockito.given(this.userRepository.findById(1L))
                 .willReturn(Optional.of(TestsHelper.UserHelper.userList().get(0)));
 
+        this.stubTransactions();
+
         assertDoesNotThrow(() -> this.userService.deleteUser(1L));
 
         BDDMockito.verify(this.userRepository).findById(1L);
         BDDMockito.verify(this.userRepository).delete(any(User.class));
+        BDDMockito.verify(this.userRepository).flush();
+        BDDMockito.verify(this.userDeletionRepository, BDDMockito.times(2)).save(any(UserDeletion.class));
+        BDDMockito.verify(this.userSummaryCache).evict(1L);
         BDDMockito.verifyNoMoreInteractions(this.userRepository);
 
     }
 
+    @Test
+    void shouldDisableUserAndKeepDeletionPendingIfUserStillOwnsContent() {
+        final User user = TestsHelper.UserHelper.userList().get(0);
+        BDDMockito.given(this.userRepository.findById(1L)).willReturn(Optional.of(user));
+        this.stubTransactions();
+        BDDMockito.willThrow(DataIntegrityViolationException.class).given(this.userRepository).flush();
+
+        assertDoesNotThrow(() -> this.userService.deleteUser(1L));
+
+        assertFalse(user.isEnabled());
+        BDDMockito.verify(this.userRepository).save(user);
+        BDDMockito.verify(this.userDeletionRepository).findById(1L);
+        BDDMockito.verify(this.userDeletionRepository).save(BDDMockito.argThat(deletion ->
+                deletion.getUserId().equals(1L) && deletion.getCompletedAt() == null));
+        BDDMockito.verifyNoMoreInteractions(this.userDeletionRepository);
 
+    }
+
+    @Test
+    void shouldFailToDeleteTombstoneUser() {
+        final User user = TestsHelper.UserHelper.userList().get(0);
+        user.setTombstone(true);
+        BDDMockito.given(this.userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        assertThrows(MalFormatedParamUserException.class, () -> this.userService.deleteUser(1L),
+                "O usuário desconhecido não pode ser removido");
+
+        BDDMockito.verify(this.userRepository, never()).delete(any(User.class));
+        BDDMockito.verifyNoInteractions(this.userDeletionRepository, this.transactionTemplate);
+
+    }
+
+    private void stubTransactions() {
+        BDDMockito.willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(this.transactionTemplate).executeWithoutResult(any());
+    }
+
+    private record Match(Long getId, String getFirstName, String getLastName, String getUsername, String getEmail,
+                         Long getProfileId, String getProfileName, Integer getBucket, Float getScore)
+            implements UserRepository.SearchMatch {
+
+        Match(User user, int bucket, float score) {
+            this(user.getId(), user.getFirstName(), user.getLastName(), user.getUsername(), user.getEmail(),
+                    user.getProfile().getId(), user.getProfile().getProfileName().name(), bucket, score);
+        }
+    }
 }
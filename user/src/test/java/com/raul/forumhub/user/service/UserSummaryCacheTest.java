@@ -0,0 +1,97 @@
+package com.raul.forumhub.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.user.config.SecondLevelCacheConfig;
+import com.raul.forumhub.user.dto.response.UserSummaryInfo;
+import com.raul.forumhub.user.util.TestsHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.CacheManager;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserSummaryCacheTest {
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+
+    final CacheManager cacheManager = new SecondLevelCacheConfig().hibernateCacheManager();
+
+    @AfterEach
+    void tearDown() {
+        this.cacheManager.close();
+    }
+
+    @Test
+    void shouldServeSerializedSummaryFromCacheUntilEvicted() throws Exception {
+        UserSummaryCache userSummaryCache = new UserSummaryCache(this.objectMapper, new SimpleMeterRegistry(),
+                this.cacheManager, true);
+
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<UserSummaryInfo> loader = () -> {
+            loads.incrementAndGet();
+            return new UserSummaryInfo(TestsHelper.UserHelper.userList().get(0));
+        };
+
+        byte[] first = userSummaryCache.get(1L, loader);
+        byte[] second = userSummaryCache.get(1L, loader);
+        userSummaryCache.evict(1L);
+        userSummaryCache.get(1L, loader);
+
+        assertAll(
+                () -> assertArrayEquals(first, second),
+                () -> assertEquals(2, loads.get()),
+                () -> assertEquals("jose_silva", this.objectMapper.readTree(first).get("username").asText())
+        );
+    }
+
+    @Test
+    void shouldEvictOnlyAfterCommitInsideTransaction() {
+        UserSummaryCache userSummaryCache = new UserSummaryCache(this.objectMapper, new SimpleMeterRegistry(),
+                this.cacheManager, true);
+
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<UserSummaryInfo> loader = () -> {
+            loads.incrementAndGet();
+            return new UserSummaryInfo(TestsHelper.UserHelper.userList().get(0));
+        };
+
+        userSummaryCache.get(1L, loader);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userSummaryCache.evict(1L);
+            userSummaryCache.get(1L, loader);
+            assertEquals(1, loads.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        userSummaryCache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldAlwaysLoadWhenCacheIsDisabled() throws Exception {
+        UserSummaryCache userSummaryCache = new UserSummaryCache(this.objectMapper, new SimpleMeterRegistry(),
+                this.cacheManager, false);
+
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<UserSummaryInfo> loader = () -> {
+            loads.incrementAndGet();
+            return new UserSummaryInfo(TestsHelper.UserHelper.userList().get(1));
+        };
+
+        userSummaryCache.get(2L, loader);
+        userSummaryCache.get(2L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+}